@@ -0,0 +1,183 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.StyleStack.Run;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Translates legacy text straight to a {@link Component}, with no MiniMessage string in between.
+ * The result looks the same as {@code miniMessage().deserialize(translator.translate(text))},
+ * except that the text itself is never parsed as MiniMessage, so tags and escapes in it are kept as is.
+ */
+public final class ComponentTranslator {
+    private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+    private static final List<NamedTextColor> NAMED_COLORS = List.copyOf(NamedTextColor.NAMES.values());
+    // Styles are immutable, so racy publication of the cached instances is fine
+    private static final Style[] STYLES = new Style[(NAMED_COLORS.size() + 1) << DECORATIONS.length];
+
+    private final Translator translator;
+
+    private ComponentTranslator(Translator translator) {
+        this.translator = translator;
+    }
+
+    /**
+     * Get a component translator with the same options as the translator
+     * @param translator translator to take the options from
+     * @return a new component translator
+     * @throws IllegalArgumentException if the translator has custom codes, as their tags are only known to MiniMessage
+     */
+    public static @NotNull ComponentTranslator of(@NotNull Translator translator) {
+        if (translator.hasCustomCodes()) {
+            throw new IllegalArgumentException("Custom codes can't be translated to a component");
+        }
+        return new ComponentTranslator(translator);
+    }
+
+    /**
+     * Translate text to a component using default options
+     * @param text text to translate
+     * @return translated component
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull Component toComponent(@NotNull String text) {
+        return toComponent(text, MiniTranslator.DEFAULT_OPTIONS);
+    }
+
+    /**
+     * Translate text to a component
+     * @param text text to translate
+     * @param options options to use
+     * @return translated component
+     */
+    public static @NotNull Component toComponent(@NotNull String text, @NotNull Option @NotNull ... options) {
+        return of(Translator.of(options)).translate(text);
+    }
+
+    /**
+     * Translate text to a component
+     * @param text text to translate
+     * @param options options to use
+     * @return translated component
+     */
+    public static @NotNull Component toComponent(@NotNull String text, @NotNull Collection<@NotNull Option> options) {
+        return of(Translator.of(options)).translate(text);
+    }
+
+    /**
+     * Get the translator whose options are used
+     * @return the translator
+     */
+    public @NotNull Translator translator() {
+        return translator;
+    }
+
+    /**
+     * Translate text to a component
+     * @param text text to translate
+     * @return translated component
+     */
+    public @NotNull Component translate(@NotNull CharSequence text) {
+        final Translator translator = this.translator;
+        if (text instanceof String string && !translator.hasCodes(string)) {
+            return string.isEmpty() ? Component.empty() : Component.text(string, style(null, 0));
+        }
+        final StyleStack tree = new StyleStack();
+        new CodeWalker(translator, tree).walk(text, 0, text.length(), true);
+        return build(tree.runs());
+    }
+
+    private static Style style(@Nullable TextColor color, int decorations) {
+        int named = color == null ? 0 : NAMED_COLORS.indexOf(color) + 1;
+        if (named == 0 && color != null) {
+            return createStyle(color, decorations);
+        }
+        int index = (named << DECORATIONS.length) | decorations;
+        Style style = STYLES[index];
+        if (style == null) {
+            style = createStyle(color, decorations);
+            STYLES[index] = style;
+        }
+        return style;
+    }
+
+    private static Style createStyle(@Nullable TextColor color, int decorations) {
+        Style.Builder builder = Style.style().color(color);
+        for (TextDecoration decoration : DECORATIONS) {
+            if ((decorations & (1 << decoration.ordinal())) != 0) {
+                builder.decoration(decoration, true);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Component build(List<Run> runs) {
+        List<Component> children = new ArrayList<>(runs.size());
+        StringBuilder content = new StringBuilder();
+        Style current = null;
+        for (Run run : runs) {
+            if (run.gradient() == null) {
+                Style style = style(run.color(), run.decorations());
+                if (!style.equals(current)) append(children, content, current);
+                current = style;
+                content.append(run.text());
+                continue;
+            }
+            String value = run.text();
+            for (int i = 0, offset = run.offset(); i < value.length(); offset++) {
+                int next = value.offsetByCodePoints(i, 1);
+                Style style = style(run.gradient().colorAt(offset), run.decorations());
+                if (!style.equals(current)) append(children, content, current);
+                current = style;
+                content.append(value, i, next);
+                i = next;
+            }
+        }
+        append(children, content, current);
+        return switch (children.size()) {
+            case 0 -> Component.empty();
+            case 1 -> children.get(0);
+            default -> Component.textOfChildren(children.toArray(new Component[0]));
+        };
+    }
+
+    private static void append(List<Component> children, StringBuilder content, @Nullable Style style) {
+        if (content.isEmpty()) return;
+        children.add(Component.text(content.toString(), style == null ? Style.empty() : style));
+        content.setLength(0);
+    }
+}
@@ -0,0 +1,361 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import me.imdanix.text.StyleStack.Gradient;
+import me.imdanix.text.StyleStack.Node;
+import me.imdanix.text.StyleStack.Run;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Translates MiniMessage text back to legacy codes, in a single scan with no {@link net.kyori.adventure.text.Component} in between.
+ * Only the tags {@link MiniTranslator} produces are supported: colors, {@code <color:...>}, decorations, gradients, {@code <reset>}
+ * and closing tags. Other tags are kept as plain text.
+ */
+public final class LegacyTranslator {
+    private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+    private static final Map<NamedTextColor, Character> CODES_BY_COLOR = new IdentityHashMap<>();
+    static {
+        for (char ch : "0123456789abcdef".toCharArray()) {
+            CODES_BY_COLOR.put(NamedTextColor.NAMES.value(Translator.colorByChar(ch)), ch);
+        }
+    }
+    private static final LegacyTranslator DEFAULT = builder().build();
+
+    private final char marker;
+    private final HexStyle hexStyle;
+    private final GradientStyle gradientStyle;
+
+    private LegacyTranslator(char marker, HexStyle hexStyle, GradientStyle gradientStyle) {
+        this.marker = marker;
+        this.hexStyle = hexStyle;
+        this.gradientStyle = gradientStyle;
+    }
+
+    /**
+     * Create a new builder with {@code §} marker, {@link HexStyle#SPIGOT} and {@link GradientStyle#PER_CHARACTER}
+     * @return a new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Translate MiniMessage text to legacy codes using the defaults of {@link #builder()}
+     * @param text text to translate
+     * @return translated string
+     */
+    public static @NotNull String fromMini(@NotNull String text) {
+        return DEFAULT.translate(text);
+    }
+
+    /**
+     * Translate MiniMessage text to legacy codes
+     * @param text text to translate
+     * @return translated string
+     */
+    public @NotNull String translate(@NotNull CharSequence text) {
+        final int end = text.length();
+        final StyleStack stack = new StyleStack();
+        int from = 0;
+
+        for (int index = 0; index < end; index++) {
+            char ch = text.charAt(index);
+            if (ch == '\\') {
+                if (index + 1 < end && (text.charAt(index + 1) == '<' || text.charAt(index + 1) == '\\')) {
+                    stack.text(text, from, index);
+                    from = ++index;
+                }
+                continue;
+            } else if (ch != '<') {
+                continue;
+            }
+            int tagEnd = tagEnd(text, index + 1, end);
+            if (tagEnd == -1) continue;
+            stack.text(text, from, index);
+            from = index;
+            if (applyTag(stack, text.subSequence(index + 1, tagEnd).toString().toLowerCase(Locale.ROOT))) {
+                index = tagEnd;
+                from = tagEnd + 1;
+            }
+        }
+        stack.text(text, from, end);
+        return render(stack.runs(), end);
+    }
+
+    private static int tagEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == '>') {
+                return index > from ? index : -1;
+            } else if (ch == '<') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return false if the tag is unknown and should be kept as text
+     */
+    private static boolean applyTag(StyleStack stack, String tag) {
+        if (tag.charAt(0) == '/') {
+            String name = tag.substring(1);
+            TextDecoration decoration = decorationByName(name);
+            if (decoration != null) {
+                stack.close(decoration.toString());
+            } else if (name.equals("gradient") || name.startsWith("gradient:") || colorByTag(name) != null
+                    || name.equals("color") || name.equals("colour") || name.equals("c")) {
+                stack.close(name);
+            } else {
+                return false;
+            }
+            return true;
+        } else if (tag.equals("reset")) {
+            stack.reset();
+            return true;
+        }
+
+        TextDecoration decoration = decorationByName(tag);
+        if (decoration != null) {
+            stack.open(new Node(decoration.toString(), null, null, 1 << decoration.ordinal()));
+            return true;
+        } else if (tag.startsWith("gradient:")) {
+            String[] stops = tag.substring(9).split(":", -1);
+            if (stops.length < 2) return false;
+            TextColor[] colors = new TextColor[stops.length];
+            for (int i = 0; i < stops.length; i++) {
+                colors[i] = colorByName(stops[i]);
+                if (colors[i] == null) return false;
+            }
+            stack.open(new Node(tag, null, new Gradient(colors), 0));
+            return true;
+        }
+
+        TextColor color = colorByTag(tag);
+        if (color == null) return false;
+        stack.open(new Node(tag, color, null, 0));
+        return true;
+    }
+
+    private static @Nullable TextColor colorByTag(String tag) {
+        int separator = tag.indexOf(':');
+        if (separator == -1) {
+            return colorByName(tag);
+        }
+        return switch (tag.substring(0, separator)) {
+            case "color", "colour", "c" -> colorByName(tag.substring(separator + 1));
+            default -> null;
+        };
+    }
+
+    private static @Nullable TextColor colorByName(String name) {
+        if (name.length() == 7 && name.charAt(0) == '#') {
+            return Translator.isHexPattern(name, 1) ? TextColor.color(Integer.parseInt(name, 1, 7, 16)) : null;
+        }
+        return NamedTextColor.NAMES.value(name);
+    }
+
+    private static @Nullable TextDecoration decorationByName(String name) {
+        return switch (name) {
+            case "obf", "obfuscated" -> TextDecoration.OBFUSCATED;
+            case "b", "bold" -> TextDecoration.BOLD;
+            case "st", "strikethrough" -> TextDecoration.STRIKETHROUGH;
+            case "u", "underlined" -> TextDecoration.UNDERLINED;
+            case "i", "em", "italic" -> TextDecoration.ITALIC;
+            default -> null;
+        };
+    }
+
+    private String render(List<Run> runs, int capacity) {
+        Output output = new Output(new StringBuilder(capacity + 16));
+        for (Run run : runs) {
+            if (run.gradient() == null) {
+                output.style(run.color() == null ? null : resolve(run.color(), hexStyle), run.decorations());
+                output.builder.append(run.text());
+                continue;
+            }
+            HexStyle style = gradientStyle == GradientStyle.NAMED ? HexStyle.NAMED : hexStyle;
+            String value = run.text();
+            for (int i = 0, offset = run.offset(); i < value.length(); offset++) {
+                int next = value.offsetByCodePoints(i, 1);
+                output.style(resolve(run.gradient().colorAt(offset), style), run.decorations());
+                output.builder.append(value, i, next);
+                i = next;
+            }
+        }
+        return output.builder.toString();
+    }
+
+    private static TextColor resolve(TextColor color, HexStyle style) {
+        return style == HexStyle.NAMED && !(color instanceof NamedTextColor) ? NamedTextColor.nearestTo(color) : color;
+    }
+
+    private static char codeByDecoration(int ordinal) {
+        return switch (DECORATIONS[ordinal]) {
+            case OBFUSCATED -> 'k';
+            case BOLD -> 'l';
+            case STRIKETHROUGH -> 'm';
+            case UNDERLINED -> 'n';
+            case ITALIC -> 'o';
+        };
+    }
+
+    /**
+     * The legacy style written so far. Colors reset the decorations, so they're reapplied when needed.
+     */
+    private final class Output {
+        private final StringBuilder builder;
+        private @Nullable TextColor color;
+        private int decorations;
+
+        private Output(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        private void style(@Nullable TextColor color, int decorations) {
+            boolean sameColor = color == null ? this.color == null : this.color != null && this.color.value() == color.value();
+            if (!sameColor || (this.decorations & ~decorations) != 0) {
+                if (color != null) {
+                    color(color);
+                } else if (this.color != null || this.decorations != 0) {
+                    builder.append(marker).append('r');
+                }
+                this.color = color;
+                this.decorations = 0;
+            }
+            for (int added = decorations & ~this.decorations; added != 0; added &= added - 1) {
+                builder.append(marker).append(codeByDecoration(Integer.numberOfTrailingZeros(added)));
+            }
+            this.decorations = decorations;
+        }
+
+        private void color(TextColor color) {
+            if (color instanceof NamedTextColor named) {
+                builder.append(marker).append(CODES_BY_COLOR.get(named));
+            } else if (hexStyle == HexStyle.HASH) {
+                builder.append(marker).append(color.asHexString());
+            } else {
+                builder.append(marker).append('x');
+                String hex = color.asHexString();
+                for (int i = 1; i < 7; i++) {
+                    builder.append(marker).append(hex.charAt(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * How to write hex colors
+     */
+    public enum HexStyle {
+        /**
+         * {@code &#123456}
+         */
+        HASH,
+        /**
+         * {@code &x&1&2&3&4&5&6}, as used by Spigot and BungeeCord
+         */
+        SPIGOT,
+        /**
+         * The nearest named color, for clients with no hex colors support
+         */
+        NAMED
+    }
+
+    /**
+     * How to write gradients
+     */
+    public enum GradientStyle {
+        /**
+         * A hex color for every character, written in the chosen {@link HexStyle}
+         */
+        PER_CHARACTER,
+        /**
+         * The nearest named color for every character, written only when it changes
+         */
+        NAMED
+    }
+
+    /**
+     * A builder for {@link LegacyTranslator}
+     */
+    public static final class Builder {
+        private char marker = '§';
+        private HexStyle hexStyle = HexStyle.SPIGOT;
+        private GradientStyle gradientStyle = GradientStyle.PER_CHARACTER;
+
+        private Builder() {}
+
+        /**
+         * Set the symbol to start the codes with
+         * @param marker either {@code &} or {@code §}
+         * @return this builder
+         */
+        public @NotNull Builder marker(char marker) {
+            if (!Translator.isMarker(marker)) throw new IllegalArgumentException("Marker should be either '&' or '§'");
+            this.marker = marker;
+            return this;
+        }
+
+        /**
+         * Set how to write hex colors
+         * @param hexStyle style to use
+         * @return this builder
+         */
+        public @NotNull Builder hexStyle(@NotNull HexStyle hexStyle) {
+            this.hexStyle = hexStyle;
+            return this;
+        }
+
+        /**
+         * Set how to write gradients
+         * @param gradientStyle style to use
+         * @return this builder
+         */
+        public @NotNull Builder gradientStyle(@NotNull GradientStyle gradientStyle) {
+            this.gradientStyle = gradientStyle;
+            return this;
+        }
+
+        /**
+         * Build the translator
+         * @return a new translator
+         */
+        public @NotNull LegacyTranslator build() {
+            return new LegacyTranslator(marker, hexStyle, gradientStyle);
+        }
+    }
+}
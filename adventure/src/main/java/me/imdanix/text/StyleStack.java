@@ -0,0 +1,172 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open tags and the text between them, flattened into runs of the same style the way MiniMessage would apply them.
+ * A tag closes every tag opened after it, and the innermost color or gradient wins.
+ */
+final class StyleStack implements CodeWalker.Sink {
+    private final List<Node> open = new ArrayList<>(4);
+    private final List<Run> runs = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+
+    @Override
+    public void text(CharSequence source, int from, int to) {
+        text.append(source, from, to);
+    }
+
+    void open(Node node) {
+        flush();
+        open.add(node);
+    }
+
+    @Override
+    public void open(byte action, String name) {
+        open(switch (action) {
+            case Translator.COLOR -> new Node(name, NamedTextColor.NAMES.value(name), null, 0);
+            case Translator.FORMAT -> new Node(name, null, null, 1 << decorationByTag(name).ordinal());
+            case Translator.GRADIENT -> new Node(name, null, gradient(name), 0);
+            default -> new Node(name, hexColor(name, name.length() - 6), null, 0);
+        });
+    }
+
+    /**
+     * Close the innermost tag with the key, or with the name if the key has no arguments
+     */
+    @Override
+    public void close(String key) {
+        boolean byName = key.indexOf(':') == -1;
+        for (int i = open.size() - 1; i >= 0; i--) {
+            Node node = open.get(i);
+            if (node.key().equals(key) || (byName && node.key().startsWith(key) && node.key().charAt(key.length()) == ':')) {
+                flush();
+                open.subList(i, open.size()).clear();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        flush();
+        open.clear();
+    }
+
+    /**
+     * Flush the pending text and get all the runs
+     * @return runs in the order of the text
+     */
+    List<Run> runs() {
+        flush();
+        return runs;
+    }
+
+    private void flush() {
+        if (text.isEmpty()) return;
+        String value = text.toString();
+        text.setLength(0);
+        int decorations = 0;
+        Node owner = null;
+        for (int i = open.size() - 1; i >= 0; i--) {
+            Node node = open.get(i);
+            decorations |= node.decorations();
+            if (owner == null && (node.color() != null || node.gradient() != null)) {
+                owner = node;
+            }
+        }
+        Gradient gradient = owner == null ? null : owner.gradient();
+        runs.add(new Run(value, decorations, owner == null ? null : owner.color(), gradient, gradient == null ? 0 : gradient.size));
+        int codePoints = value.codePointCount(0, value.length());
+        for (Node node : open) {
+            if (node.gradient() != null) node.gradient().size += codePoints;
+        }
+    }
+
+    private static Gradient gradient(String name) {
+        String[] stops = name.split(":");
+        TextColor[] colors = new TextColor[stops.length - 1];
+        for (int i = 1; i < stops.length; i++) {
+            colors[i - 1] = stops[i].charAt(0) == '#' ? hexColor(stops[i], 1) : NamedTextColor.NAMES.value(stops[i]);
+        }
+        return new Gradient(colors);
+    }
+
+    private static TextColor hexColor(CharSequence text, int from) {
+        return TextColor.color(Integer.parseInt(text, from, from + 6, 16));
+    }
+
+    private static TextDecoration decorationByTag(String tag) {
+        return switch (tag) {
+            case "obf" -> TextDecoration.OBFUSCATED;
+            case "b" -> TextDecoration.BOLD;
+            case "st" -> TextDecoration.STRIKETHROUGH;
+            case "u" -> TextDecoration.UNDERLINED;
+            case "i" -> TextDecoration.ITALIC;
+            default -> throw new IllegalStateException("Provided impossible format tag '" + tag + "'");
+        };
+    }
+
+    /**
+     * An open tag
+     * @param decorations bits of {@link net.kyori.adventure.text.format.TextDecoration} ordinals
+     */
+    record Node(String key, @Nullable TextColor color, @Nullable Gradient gradient, int decorations) {}
+
+    /**
+     * A piece of text with the same style, or the same gradient starting from the offset
+     */
+    record Run(String text, int decorations, @Nullable TextColor color, @Nullable Gradient gradient, int offset) {}
+
+    /**
+     * Gradient colors are only known when its full length is, so it's counted while the gradient is open
+     */
+    static final class Gradient {
+        private final TextColor[] colors;
+        private int size;
+
+        Gradient(TextColor[] colors) {
+            this.colors = colors;
+        }
+
+        // Same interpolation as MiniMessage does, so the colors match exactly
+        TextColor colorAt(int index) {
+            double multiplier = size == 1 ? 0 : (double) (colors.length - 1) / (size - 1);
+            double position = index * multiplier;
+            int low = (int) Math.floor(position);
+            int high = (int) Math.ceil(position) % colors.length;
+            return TextColor.lerp((float) position - low, colors[low % colors.length], colors[high]);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+public class ComponentTranslatorTest {
+    @DataProvider
+    public Object[][] componentData() {
+        return new Object[][] {
+                {"&aA simple one", MiniTranslator.DEFAULT_OPTIONS},
+                {"F&#123456oo &x&6&5&4&3&2&1ba#12345r #abcdef", EnumSet.of(Option.COLOR, Option.HEX_COLOR_STANDALONE, Option.CLOSE_COLORS)},
+                {"&@red-yellow-0@&lServer admin &9imDaniX &8> &#fff5d9&oHello world! YOLO", MiniTranslator.DEFAULT_OPTIONS},
+                {"&@red-yellow-0@&lServer admin &9imDaniX &8> &#fff5d9&oHello world! YOLO", EnumSet.allOf(Option.class)},
+                {"&@#abcdef-red@Gradient &lbold &agreen", EnumSet.of(Option.COLOR, Option.FORMAT, Option.GRADIENT)},
+                {"&@a-b@Outer &@c-d@inner", MiniTranslator.DEFAULT_OPTIONS},
+                {"&a&lGreen bold, &cred normal, &&aescaped&r and &jinvalid &", MiniTranslator.DEFAULT_OPTIONS},
+                {"&a&lGreen bold, &cred normal, &&anot escaped", EnumSet.of(Option.COLOR, Option.FORMAT)},
+                {"&@red-blue@😀 surrogates 😀", MiniTranslator.DEFAULT_OPTIONS},
+        };
+    }
+
+    @Test(dataProvider = "componentData")
+    public void toComponentTest(String input, Set<Option> options) {
+        assertSameLook(input, options);
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(8);
+        for (int i = 0; i < 3000; i++) {
+            assertSameLook(RandomText.text(random, 24), RandomText.options(random));
+        }
+    }
+
+    @Test
+    public void stylesReusedTest() {
+        Component first = ComponentTranslator.toComponent("&c&lHello");
+        Component second = ComponentTranslator.toComponent("&c&lWorld");
+        assertSame(first.style(), second.style());
+        assertEquals(first.style(), Style.style(NamedTextColor.RED, TextDecoration.BOLD));
+    }
+
+    @Test
+    public void literalTextTest() {
+        assertEquals(ComponentTranslator.toComponent("&a<b>not bold"), Component.text("<b>not bold", NamedTextColor.GREEN));
+        assertEquals(ComponentTranslator.toComponent(""), Component.empty());
+    }
+
+    @Test
+    public void customCodesTest() {
+        Translator translator = Translator.builder().code('z', Translator.CodeBehavior.COLOR, "rainbow").build();
+        assertThrows(IllegalArgumentException.class, () -> ComponentTranslator.of(translator));
+    }
+
+    private static void assertSameLook(String input, Set<Option> options) {
+        Component expected = miniMessage().deserialize(MiniTranslator.toMini(input, options));
+        Component actual = ComponentTranslator.of(Translator.of(options)).translate(input);
+        assertEquals(flatten(actual), flatten(expected), input + " " + options);
+    }
+
+    /**
+     * @return every character with its effective color and decorations
+     */
+    static List<String> flatten(Component component) {
+        List<String> result = new ArrayList<>();
+        flatten(component, null, EnumSet.noneOf(TextDecoration.class), result);
+        return result;
+    }
+
+    private static void flatten(Component component, TextColor color, Set<TextDecoration> decorations, List<String> result) {
+        if (component.color() != null) color = component.color();
+        decorations = decorations.isEmpty() ? EnumSet.noneOf(TextDecoration.class) : EnumSet.copyOf(decorations);
+        for (TextDecoration decoration : TextDecoration.values()) {
+            switch (component.decoration(decoration)) {
+                case TRUE -> decorations.add(decoration);
+                case FALSE -> decorations.remove(decoration);
+                default -> {}
+            }
+        }
+        if (component instanceof TextComponent text) {
+            String content = text.content();
+            for (int i = 0; i < content.length(); i = content.offsetByCodePoints(i, 1)) {
+                result.add(content.codePointAt(i) + " " + (color == null ? null : color.asHexString()) + " " + decorations);
+            }
+        }
+        for (Component child : component.children()) {
+            flatten(child, color, decorations, result);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.imdanix.text;
+
+import me.imdanix.text.LegacyTranslator.GradientStyle;
+import me.imdanix.text.LegacyTranslator.HexStyle;
+import me.imdanix.text.MiniTranslator.Option;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+
+public class LegacyTranslatorTest {
+    private static final LegacyComponentSerializer SPIGOT = LegacyComponentSerializer.builder()
+            .hexColors().useUnusualXRepeatedCharacterHexFormat().build();
+    private static final LegacyComponentSerializer HASH = LegacyComponentSerializer.builder()
+            .character('&').hexColors().build();
+
+    @DataProvider
+    public Object[][] fromMiniData() {
+        return new Object[][] {
+                {"<green>A simple one", "§aA simple one"},
+                {"<red><b>Bold</b> not bold</red> plain", "§c§lBold§c not bold§r plain"},
+                {"<b><red>Bold and red <i>italic</i> back", "§c§lBold and red §oitalic§c§l back"},
+                {"<#123456>Hex <color:#ABCDEF>other</color:#ABCDEF>", "§x§1§2§3§4§5§6Hex §x§a§b§c§d§e§fother"},
+                {"<green>Kept <unknown> and \\<red> and <b", "§aKept <unknown> and <red> and <b"},
+                {"<red>a<reset>b<red>c</red>", "§ca§rb§cc"},
+                {"<gradient:red:blue>abc", "§ca§x§a§a§5§5§a§ab§9c"},
+        };
+    }
+
+    @Test(dataProvider = "fromMiniData")
+    public void fromMiniTest(String input, String expected) {
+        assertEquals(LegacyTranslator.fromMini(input), expected);
+    }
+
+    @Test
+    public void stylesTest() {
+        LegacyTranslator hash = LegacyTranslator.builder().marker('&').hexStyle(HexStyle.HASH).build();
+        assertEquals(hash.translate("<#123456>Hex <gradient:#000000:#ffffff>abc"), "&#123456Hex &0a&#808080b&fc");
+
+        LegacyTranslator named = LegacyTranslator.builder().hexStyle(HexStyle.NAMED).build();
+        assertEquals(named.translate("<#fe5454>Almost red"), "§cAlmost red");
+
+        LegacyTranslator downsampled = LegacyTranslator.builder().gradientStyle(GradientStyle.NAMED).build();
+        assertEquals(downsampled.translate("<gradient:red:red>red"), "§cred");
+        assertEquals(downsampled.translate("<gradient:black:white>abcde"), "§0a§8b§7cd§fe");
+    }
+
+    @Test
+    public void roundTripTest() {
+        Random random = new Random(9);
+        Set<Option> options = EnumSet.allOf(Option.class);
+        options.remove(Option.DOUBLE_TO_ESCAPE);
+        LegacyTranslator hash = LegacyTranslator.builder().marker('&').hexStyle(HexStyle.HASH).build();
+        for (int i = 0; i < 3000; i++) {
+            String input = RandomText.text(random, 24);
+            if (random.nextBoolean()) options.remove(Option.FAST_RESET); else options.add(Option.FAST_RESET);
+            String mini = MiniTranslator.toMini(input, options);
+            var expected = ComponentTranslatorTest.flatten(miniMessage().deserialize(mini));
+            assertEquals(ComponentTranslatorTest.flatten(SPIGOT.deserialize(LegacyTranslator.fromMini(mini))), expected, mini);
+            if (mini.indexOf('&') == -1) {
+                assertEquals(ComponentTranslatorTest.flatten(HASH.deserialize(hash.translate(mini))), expected, mini);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package me.imdanix.text.benchmark;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer.legacyAmpersand;
+
+/**
+ * The round-trip through Adventure recommended in the README, as a baseline for {@link ToMiniBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdventureBenchmark {
+    @Param
+    public Corpus corpus;
+
+    private final LegacyComponentSerializer legacy = legacyAmpersand();
+    private final MiniMessage miniMessage = miniMessage();
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        lines = corpus.lines();
+    }
+
+    @Benchmark
+    public String legacyToMini() {
+        return miniMessage.serialize(legacy.deserialize(lines[index++ & (lines.length - 1)]));
+    }
+}
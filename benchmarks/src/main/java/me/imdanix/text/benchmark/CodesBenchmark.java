@@ -0,0 +1,45 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of a single code, measured on text that has nothing but codes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(CodesBenchmark.CODES)
+public class CodesBenchmark {
+    static final int CODES = 1024;
+    private static final String[] PATTERNS = {"&a", "&l", "&c", "&o", "&r", "&j", "&&", "&7", "&n", "&e"};
+
+    @Param
+    public Profile profile;
+
+    private Translator translator;
+    private String text;
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < CODES; i++) {
+            text.append(PATTERNS[i % PATTERNS.length]);
+        }
+        this.text = text.toString();
+        builder = new StringBuilder(text.length() * 8);
+    }
+
+    @Benchmark
+    public StringBuilder perCode() {
+        builder.setLength(0);
+        return translator.translate(text, 0, text.length(), builder);
+    }
+}
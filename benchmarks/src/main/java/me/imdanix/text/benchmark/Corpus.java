@@ -0,0 +1,81 @@
+package me.imdanix.text.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Deterministic sets of lines to translate. Each set holds a power of two lines, so they can be cycled with a mask.
+ */
+public enum Corpus {
+    /**
+     * Short chat lines with a few named colors and formats
+     */
+    CHAT(256, random -> pick(random, "&7[", "&8[", "&f[")
+            + pick(random, "&aVIP", "&6&lMVP", "&cAdmin", "&9Mod", "&eHelper")
+            + pick(random, "&7] ", "&8] ", "&f] ")
+            + pick(random, "&fSteve", "&bAlex", "&dNotch", "&3jeb_")
+            + "&8: &r"
+            + pick(random, "hello there", "anyone up for &c&lPvP&r?", "gg", "&aselling &ediamonds &a- /msg me", "lag?")),
+    /**
+     * Lines with a lot of hex colors in both formats
+     */
+    HEX(256, random -> {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0, words = 3 + random.nextInt(6); i < words; i++) {
+            if (random.nextBoolean()) {
+                builder.append("&#").append(hex(random));
+            } else {
+                builder.append("&x");
+                for (char ch : hex(random).toCharArray()) builder.append('&').append(ch);
+            }
+            builder.append(pick(random, "Welcome ", "to ", "the ", "server ", "shop ", "&lnews "));
+        }
+        return builder.toString();
+    }),
+    /**
+     * Lines with gradients of named colors, single char colors and hex colors
+     */
+    GRADIENT(256, random -> "&@" + pick(random, "red-yellow", "gold-#" + hex(random), "a-b-c", "#" + hex(random) + "-#" + hex(random) + "-blue") + "@"
+            + pick(random, "&lServer Network", "Welcome back", "Season " + random.nextInt(10))
+            + " &7| &@" + pick(random, "aqua-blue", "d-5", "white-gray") + "@" + pick(random, "play.example.net", "Vote now!")),
+    /**
+     * Plain text without any codes
+     */
+    PLAIN(256, random -> pick(random, "hello there", "anyone up for some PvP?", "gg wp", "selling diamonds - msg me", "lag?")
+            + ' ' + pick(random, "thanks", "see you later", "brb", "lol", "where is the spawn")),
+    /**
+     * Book-sized (32KB) pages made of lines from all the other sets
+     */
+    BOOK(4, random -> {
+        Corpus[] sources = {CHAT, HEX, GRADIENT, PLAIN};
+        int pageSize = 32 * 1024;
+        StringBuilder builder = new StringBuilder(pageSize + 128);
+        while (builder.length() < pageSize) {
+            String[] lines = sources[random.nextInt(sources.length)].lines;
+            builder.append(lines[random.nextInt(lines.length)]).append('\n');
+        }
+        return builder.substring(0, pageSize);
+    });
+
+    private final String[] lines;
+
+    Corpus(int size, Function<SplittableRandom, String> generator) {
+        SplittableRandom random = new SplittableRandom(ordinal());
+        this.lines = new String[size];
+        for (int i = 0; i < size; i++) {
+            lines[i] = generator.apply(random);
+        }
+    }
+
+    public String[] lines() {
+        return lines.clone();
+    }
+
+    private static String pick(SplittableRandom random, String... variants) {
+        return variants[random.nextInt(variants.length)];
+    }
+
+    private static String hex(SplittableRandom random) {
+        return String.format("%06x", random.nextInt(0x1000000));
+    }
+}
@@ -0,0 +1,65 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of a single custom code against a built-in one that behaves the same, measured on text that has nothing but codes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(CustomCodesBenchmark.CODES)
+public class CustomCodesBenchmark {
+    static final int CODES = 1024;
+    private static final String[] BUILT_IN_PATTERNS = {"&a", "&l", "&c", "&o", "&r", "&j", "&&", "&7", "&n", "&e"};
+    private static final String[] CUSTOM_PATTERNS = {"&z", "&h", "&g", "&o", "&q", "&j", "&&", "&7", "&n", "&e"};
+
+    // Custom codes can't be minified
+    @Param({"DEFAULT_OPTIONS", "CLOSE_COLORS", "HEX_COLOR_STANDALONE", "GRADIENT"})
+    public Profile profile;
+
+    private Translator translator;
+    private String builtInText;
+    private String customText;
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        translator = Translator.builder()
+                .options(profile.options())
+                .code('z', Translator.CodeBehavior.COLOR, "rainbow")
+                .code('g', Translator.CodeBehavior.COLOR, "gradient:#5e4fa2:#f79459")
+                .code('h', Translator.CodeBehavior.FORMAT, "highlight")
+                .code('q', Translator.CodeBehavior.RESET, "<reset>", "")
+                .build();
+        builtInText = text(BUILT_IN_PATTERNS);
+        customText = text(CUSTOM_PATTERNS);
+        builder = new StringBuilder(customText.length() * 16);
+    }
+
+    private static String text(String[] patterns) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < CODES; i++) {
+            text.append(patterns[i % patterns.length]);
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public StringBuilder builtIn() {
+        builder.setLength(0);
+        return translator.translate(builtInText, 0, builtInText.length(), builder);
+    }
+
+    @Benchmark
+    public StringBuilder custom() {
+        builder.setLength(0);
+        return translator.translate(customText, 0, customText.length(), builder);
+    }
+}
@@ -0,0 +1,75 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+
+/**
+ * Rendering the lines translated with {@code <gradient>} tags against the ones with {@link Option#FLATTEN_GRADIENT},
+ * and the cost of flattening itself, one line per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlattenGradientBenchmark {
+    private static final Set<Option> FLATTENED = EnumSet.copyOf(MiniTranslator.DEFAULT_OPTIONS);
+    static {
+        FLATTENED.add(Option.FLATTEN_GRADIENT);
+    }
+
+    @Param({"GRADIENT", "CHAT"})
+    public Corpus corpus;
+
+    private final MiniMessage miniMessage = miniMessage();
+    private Translator translator;
+    private Translator flattening;
+    private String[] lines;
+    private String[] gradients;
+    private String[] flattened;
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+        flattening = Translator.of(FLATTENED);
+        lines = corpus.lines();
+        gradients = new String[lines.length];
+        flattened = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            gradients[i] = translator.translate(lines[i]);
+            flattened[i] = flattening.translate(lines[i]);
+        }
+    }
+
+    @Benchmark
+    public String translate() {
+        return translator.translate(lines[index++ & (lines.length - 1)]);
+    }
+
+    @Benchmark
+    public String translateFlattened() {
+        return flattening.translate(lines[index++ & (lines.length - 1)]);
+    }
+
+    @Benchmark
+    public Component render() {
+        return miniMessage.deserialize(gradients[index++ & (gradients.length - 1)]);
+    }
+
+    @Benchmark
+    public Component renderFlattened() {
+        return miniMessage.deserialize(flattened[index++ & (flattened.length - 1)]);
+    }
+}
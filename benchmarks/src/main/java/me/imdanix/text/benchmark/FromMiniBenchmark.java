@@ -0,0 +1,48 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.LegacyTranslator;
+import me.imdanix.text.Translator;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+
+/**
+ * {@link LegacyTranslator} against the MiniMessage and {@link LegacyComponentSerializer} round-trip,
+ * one line translated with the default options per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FromMiniBenchmark {
+    @Param({"CHAT", "HEX", "GRADIENT", "PLAIN"})
+    public Corpus corpus;
+
+    private final MiniMessage miniMessage = miniMessage();
+    private final LegacyComponentSerializer legacy = LegacyComponentSerializer.builder()
+            .hexColors().useUnusualXRepeatedCharacterHexFormat().build();
+    private final LegacyTranslator translator = LegacyTranslator.builder().build();
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        lines = Translator.of(Profile.DEFAULT_OPTIONS.options()).translateAll(corpus.lines());
+    }
+
+    @Benchmark
+    public String fromMini() {
+        return translator.translate(lines[index++ & (lines.length - 1)]);
+    }
+
+    @Benchmark
+    public String viaComponent() {
+        return legacy.serialize(miniMessage.deserialize(lines[index++ & (lines.length - 1)]));
+    }
+}
@@ -0,0 +1,52 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.IncrementalTranslator;
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IncrementalTranslator} against translating the whole book page again, one typed char per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalBenchmark {
+    private static final String[] TYPED = {"a", "&", "l", " "};
+
+    // Incremental translation can't be minified
+    @Param({"DEFAULT_OPTIONS", "CLOSE_COLORS", "HEX_COLOR_STANDALONE", "GRADIENT"})
+    public Profile profile;
+
+    private Translator translator;
+    private IncrementalTranslator incremental;
+    private StringBuilder text;
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        translator = Translator.of(profile.options());
+        incremental = IncrementalTranslator.of(translator);
+        text = new StringBuilder(String.join("\n", Corpus.BOOK.lines()));
+        incremental.set(text);
+        index = 0;
+    }
+
+    @Benchmark
+    public String incremental() {
+        // Types in the middle of the text, deleting the previous char so the length stays the same
+        int at = text.length() / 2;
+        return incremental.edit(at, at + 1, TYPED[index++ & 3]);
+    }
+
+    @Benchmark
+    public String whole() {
+        int at = text.length() / 2;
+        text.replace(at, at + 1, TYPED[index++ & 3]);
+        return translator.translate(text.toString());
+    }
+}
@@ -0,0 +1,46 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.TranslationMetrics;
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The overhead of {@link TranslationMetrics}, with the default options and one line per operation.
+ * Compare {@code metrics=false} with {@link ToMiniBenchmark} of the previous versions to see the cost of the disabled check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    public boolean metrics;
+    @Param({"CHAT", "PLAIN"})
+    public Corpus corpus;
+
+    private Translator translator;
+    private StringBuilder builder;
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.builder()
+                .options(Profile.DEFAULT_OPTIONS.options())
+                .metrics(metrics ? TranslationMetrics.create() : null)
+                .build();
+        builder = new StringBuilder(1024);
+        lines = corpus.lines();
+    }
+
+    @Benchmark
+    public StringBuilder translate() {
+        String line = lines[index++ & (lines.length - 1)];
+        builder.setLength(0);
+        return translator.translate(line, 0, line.length(), builder);
+    }
+}
@@ -0,0 +1,55 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.MiniTranslator.Option;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Option sets to benchmark the translator with
+ */
+public enum Profile {
+    /**
+     * {@link MiniTranslator#DEFAULT_OPTIONS}
+     */
+    DEFAULT_OPTIONS(MiniTranslator.DEFAULT_OPTIONS),
+    /**
+     * Default options with {@link Option#CLOSE_COLORS} instead of {@link Option#FAST_RESET}
+     */
+    CLOSE_COLORS(with(without(MiniTranslator.DEFAULT_OPTIONS, Option.FAST_RESET), Option.CLOSE_COLORS)),
+    /**
+     * Default options with {@link Option#HEX_COLOR_STANDALONE}
+     */
+    HEX_COLOR_STANDALONE(with(MiniTranslator.DEFAULT_OPTIONS, Option.HEX_COLOR_STANDALONE)),
+    /**
+     * Default options with {@link Option#MINIFY}
+     */
+    MINIFY(with(MiniTranslator.DEFAULT_OPTIONS, Option.MINIFY)),
+    /**
+     * Just colors and gradients
+     */
+    GRADIENT(EnumSet.of(Option.COLOR, Option.GRADIENT));
+
+    private final Set<Option> options;
+
+    Profile(Set<Option> options) {
+        this.options = options;
+    }
+
+    public Set<Option> options() {
+        return options;
+    }
+
+    private static Set<Option> with(Set<Option> options, Option option) {
+        EnumSet<Option> copy = EnumSet.copyOf(options);
+        copy.add(option);
+        return copy;
+    }
+
+    private static Set<Option> without(Set<Option> options, Option option) {
+        EnumSet<Option> copy = EnumSet.copyOf(options);
+        copy.remove(option);
+        return copy;
+    }
+}
@@ -0,0 +1,50 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.BatchTranslator;
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single multi-megabyte text made of {@link Corpus#BOOK} pages, translated on one core
+ * against split at its resets between the workers of the common pool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitBenchmark {
+    @Param({"DEFAULT_OPTIONS", "CLOSE_COLORS", "GRADIENT"})
+    public Profile profile;
+    @Param({"4"})
+    public int megabytes;
+
+    private Translator translator;
+    private BatchTranslator batch;
+    private String text;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        batch = BatchTranslator.of(translator);
+        String[] pages = Corpus.BOOK.lines();
+        StringBuilder builder = new StringBuilder(megabytes << 20);
+        for (int i = 0; builder.length() < megabytes << 20; i++) {
+            builder.append(pages[i & (pages.length - 1)]);
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public String sequential() {
+        return translator.translate(text);
+    }
+
+    @Benchmark
+    public String split() {
+        return batch.translate(text);
+    }
+}
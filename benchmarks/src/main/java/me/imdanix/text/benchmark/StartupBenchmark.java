@@ -0,0 +1,29 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.MiniTranslator;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first gradient translation in a fresh JVM, including loading and initializing the classes.
+ * The lookup of a color name in {@link NamedTextColor#NAMES}, which the translator doesn't need, is there for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    @Benchmark
+    public String firstGradient() {
+        return MiniTranslator.toMini("&@red-gold-#12ab56@Welcome to the server!");
+    }
+
+    @Benchmark
+    public NamedTextColor firstNamedColor() {
+        return NamedTextColor.NAMES.value("gold");
+    }
+}
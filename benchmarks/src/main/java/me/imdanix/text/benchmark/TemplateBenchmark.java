@@ -0,0 +1,49 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.Template;
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A compiled {@link Template} against translating the whole text with the values put in, one message per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+    private static final String CHAT = "&7[&a{rank}&7] &f{player}&8: &r{message}";
+    private static final String[] PLAYERS = {"imDaniX", "Notch", "jeb_", "Dinnerbone"};
+    private static final String[] MESSAGES = {"Hello there!", "&cgg", "anyone up for a &lraid&r tonight?", "brb"};
+
+    // Templates can't be minified
+    @Param({"DEFAULT_OPTIONS", "CLOSE_COLORS", "HEX_COLOR_STANDALONE", "GRADIENT"})
+    public Profile profile;
+
+    private Translator translator;
+    private Template template;
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        template = Template.compile(CHAT, translator);
+    }
+
+    @Benchmark
+    public String render() {
+        int i = index++ & 3;
+        return template.render(Map.of("rank", "VIP", "player", PLAYERS[i]), Map.of("message", MESSAGES[i]));
+    }
+
+    @Benchmark
+    public String substituteAndTranslate() {
+        int i = index++ & 3;
+        return translator.translate(CHAT.replace("{rank}", "VIP").replace("{player}", PLAYERS[i]).replace("{message}", MESSAGES[i]));
+    }
+}
@@ -0,0 +1,50 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.ComponentTranslator;
+import me.imdanix.text.Translator;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+
+/**
+ * {@link ComponentTranslator} against parsing the {@link Translator} output with MiniMessage, one line per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToComponentBenchmark {
+    @Param
+    public Profile profile;
+    @Param({"CHAT", "HEX", "GRADIENT", "PLAIN"})
+    public Corpus corpus;
+
+    private final MiniMessage miniMessage = miniMessage();
+    private Translator translator;
+    private ComponentTranslator componentTranslator;
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        componentTranslator = ComponentTranslator.of(translator);
+        lines = corpus.lines();
+    }
+
+    @Benchmark
+    public Component direct() {
+        return componentTranslator.translate(lines[index++ & (lines.length - 1)]);
+    }
+
+    @Benchmark
+    public Component viaMiniMessage() {
+        return miniMessage.deserialize(translator.translate(lines[index++ & (lines.length - 1)]));
+    }
+}
@@ -0,0 +1,39 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.MiniTranslator.Option;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MiniTranslator#toMini(String, java.util.Collection)} with every profile over every corpus, one line per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToMiniBenchmark {
+    @Param
+    public Profile profile;
+    @Param
+    public Corpus corpus;
+
+    private Set<Option> options;
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        options = profile.options();
+        lines = corpus.lines();
+    }
+
+    @Benchmark
+    public String toMini() {
+        return MiniTranslator.toMini(lines[index++ & (lines.length - 1)], options);
+    }
+}
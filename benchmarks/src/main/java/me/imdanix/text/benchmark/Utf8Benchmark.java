@@ -0,0 +1,56 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.Translator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Translating UTF-8 bytes directly against decoding them, translating the string and encoding it back, one line per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8Benchmark {
+    @Param({"DEFAULT_OPTIONS"})
+    public Profile profile;
+    @Param({"CHAT", "HEX", "GRADIENT", "PLAIN"})
+    public Corpus corpus;
+
+    private Translator translator;
+    private ByteBuffer[] lines;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(1 << 16);
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        String[] strings = corpus.lines();
+        lines = new ByteBuffer[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = strings[i].getBytes(UTF_8);
+            lines[i] = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        }
+    }
+
+    @Benchmark
+    public CoderResult direct() {
+        ByteBuffer in = lines[index++ & (lines.length - 1)];
+        CoderResult result = translator.translate(in.clear(), out.clear());
+        return result;
+    }
+
+    @Benchmark
+    public ByteBuffer viaString() {
+        ByteBuffer in = lines[index++ & (lines.length - 1)];
+        String translated = translator.translate(UTF_8.decode(in.clear()).toString());
+        return out.clear().put(translated.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package me.imdanix.text.benchmark;
+
+import me.imdanix.text.Translator;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+
+/**
+ * {@link Translator#visibleLength(CharSequence)} against measuring the text parsed with MiniMessage,
+ * and translating a line cut to a scoreboard limit, one line per operation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisibleLengthBenchmark {
+    private static final int SCOREBOARD_LINE = 32;
+
+    @Param({"DEFAULT_OPTIONS", "GRADIENT", "MINIFY"})
+    public Profile profile;
+    @Param({"CHAT", "HEX", "GRADIENT", "PLAIN"})
+    public Corpus corpus;
+
+    private final MiniMessage miniMessage = miniMessage();
+    private Translator translator;
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setup() {
+        translator = Translator.of(profile.options());
+        lines = corpus.lines();
+    }
+
+    @Benchmark
+    public int visibleLength() {
+        return translator.visibleLength(lines[index++ & (lines.length - 1)]);
+    }
+
+    @Benchmark
+    public int viaMiniMessage() {
+        return length(miniMessage.deserialize(translator.translate(lines[index++ & (lines.length - 1)])));
+    }
+
+    @Benchmark
+    public String truncate() {
+        return translator.translate(lines[index++ & (lines.length - 1)], SCOREBOARD_LINE);
+    }
+
+    private static int length(Component component) {
+        int length = component instanceof TextComponent text ? text.content().length() : 0;
+        for (Component child : component.children()) {
+            length += length(child);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * How a string value is written in a file
+ */
+enum Escaping {
+    /**
+     * Written as is, e.g. plain YAML scalars and block scalar lines
+     */
+    NONE {
+        @Override
+        @Nullable String unescape(CharSequence text, int from, int to) {
+            return text.subSequence(from, to).toString();
+        }
+
+        @Override
+        void escape(String value, StringBuilder out) {
+            out.append(value);
+        }
+    },
+    /**
+     * Single-quoted YAML, with {@code ''} for a quote
+     */
+    SINGLE_QUOTED {
+        @Override
+        @Nullable String unescape(CharSequence text, int from, int to) {
+            return text.subSequence(from, to).toString().replace("''", "'");
+        }
+
+        @Override
+        void escape(String value, StringBuilder out) {
+            out.append(value.replace("'", "''"));
+        }
+    },
+    /**
+     * JSON strings and double-quoted YAML, with backslash escapes
+     */
+    QUOTED {
+        @Override
+        @Nullable String unescape(CharSequence text, int from, int to) {
+            StringBuilder value = new StringBuilder(to - from);
+            for (int i = from; i < to; i++) {
+                char ch = text.charAt(i);
+                if (ch != '\\') {
+                    value.append(ch);
+                    continue;
+                }
+                if (++i == to) return null;
+                switch (text.charAt(i)) {
+                    case '"' -> value.append('"');
+                    case '\\' -> value.append('\\');
+                    case '/' -> value.append('/');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        int code = hex(text, i + 1, to);
+                        if (code == -1) return null;
+                        value.append((char) code);
+                        i += 4;
+                    }
+                    // The rest of YAML escapes are rare enough to leave such values as they are
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            return value.toString();
+        }
+
+        @Override
+        void escape(String value, StringBuilder out) {
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                switch (ch) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\b' -> out.append("\\b");
+                    case '\f' -> out.append("\\f");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (ch < ' ') {
+                            out.append("\\u00").append(Character.forDigit(ch >> 4, 16)).append(Character.forDigit(ch & 0xF, 16));
+                        } else {
+                            out.append(ch);
+                        }
+                    }
+                }
+            }
+        }
+    },
+    /**
+     * Java properties, with backslash escapes
+     */
+    PROPERTIES {
+        @Override
+        @Nullable String unescape(CharSequence text, int from, int to) {
+            StringBuilder value = new StringBuilder(to - from);
+            for (int i = from; i < to; i++) {
+                char ch = text.charAt(i);
+                if (ch != '\\') {
+                    value.append(ch);
+                    continue;
+                }
+                // A trailing backslash continues the value on the next line
+                if (++i == to) return null;
+                switch (ch = text.charAt(i)) {
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        int code = hex(text, i + 1, to);
+                        if (code == -1) return null;
+                        value.append((char) code);
+                        i += 4;
+                    }
+                    default -> value.append(ch);
+                }
+            }
+            return value.toString();
+        }
+
+        @Override
+        void escape(String value, StringBuilder out) {
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                switch (ch) {
+                    case '\\' -> out.append("\\\\");
+                    case '\f' -> out.append("\\f");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    case ' ' -> out.append(i == 0 ? "\\ " : " ");
+                    default -> out.append(ch);
+                }
+            }
+        }
+    };
+
+    /**
+     * Get the value as it is meant
+     * @return the value, or null if it can't be read and should be left as is
+     */
+    abstract @Nullable String unescape(CharSequence text, int from, int to);
+
+    /**
+     * Write the value the way the file expects it
+     */
+    abstract void escape(String value, StringBuilder out);
+
+    private static int hex(CharSequence text, int from, int to) {
+        if (from + 4 > to) return -1;
+        int code = 0;
+        for (int i = from; i < from + 4; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit == -1) return -1;
+            code = (code << 4) | digit;
+        }
+        return code;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.Translator;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * A file format whose string values are translated, while the keys and the structure are kept as they are
+ */
+interface Format {
+    /**
+     * Translate the values of the file
+     * @param text file content
+     * @param translator translator to use
+     * @param out builder to append the result to
+     * @return the number of values changed
+     */
+    int translate(CharSequence text, Translator translator, StringBuilder out);
+
+    /**
+     * Get the format by the file extension
+     * @return the format, or null if it's not supported
+     */
+    static @Nullable Format of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".yml") || name.endsWith(".yaml")) {
+            return YamlFormat.INSTANCE;
+        } else if (name.endsWith(".properties") || name.endsWith(".lang")) {
+            return PropertiesFormat.INSTANCE;
+        } else if (name.endsWith(".json")) {
+            return JsonFormat.INSTANCE;
+        }
+        return null;
+    }
+
+    /**
+     * Translate one value, or copy it as is if it doesn't change
+     * @return true if the value was changed
+     */
+    static boolean translateValue(CharSequence text, int from, int to, Escaping escaping, Translator translator, StringBuilder out) {
+        String value = from == to ? null : escaping.unescape(text, from, to);
+        if (value != null) {
+            String translated = translator.translate(value);
+            if (!translated.equals(value)) {
+                escaping.escape(translated, out);
+                return true;
+            }
+        }
+        out.append(text, from, to);
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.Translator;
+
+/**
+ * JSON, where every string that isn't an object key is a value
+ */
+final class JsonFormat implements Format {
+    static final JsonFormat INSTANCE = new JsonFormat();
+
+    private JsonFormat() {}
+
+    @Override
+    public int translate(CharSequence text, Translator translator, StringBuilder out) {
+        final int end = text.length();
+        int changed = 0;
+        int from = 0;
+        for (int index = 0; index < end; index++) {
+            if (text.charAt(index) != '"') continue;
+            int stringEnd = stringEnd(text, index + 1, end);
+            if (stringEnd == -1) break;
+            int next = stringEnd + 1;
+            while (next < end && Character.isWhitespace(text.charAt(next))) next++;
+            if (next == end || text.charAt(next) != ':') {
+                out.append(text, from, index + 1);
+                if (Format.translateValue(text, index + 1, stringEnd, Escaping.QUOTED, translator, out)) changed++;
+                from = stringEnd;
+            }
+            index = stringEnd;
+        }
+        out.append(text, from, end);
+        return changed;
+    }
+
+    /**
+     * @return the index of the closing quote, or -1 if there's none
+     */
+    private static int stringEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == '"') {
+                return index;
+            } else if (ch == '\\') {
+                index++;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+/**
+ * Line boundaries that keep {@code \n}, {@code \r\n} and {@code \r} as they are
+ */
+final class Lines {
+    private Lines() {}
+
+    /**
+     * @return the index of the line terminator, or the until index if it's the last line
+     */
+    static int end(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == '\n' || ch == '\r') return index;
+        }
+        return until;
+    }
+
+    /**
+     * @return the start of the next line
+     */
+    static int next(CharSequence text, int lineEnd, int until) {
+        if (lineEnd == until) return until;
+        return text.charAt(lineEnd) == '\r' && lineEnd + 1 < until && text.charAt(lineEnd + 1) == '\n' ? lineEnd + 2 : lineEnd + 1;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Translates the string values of YAML, properties and JSON files in place, e.g. the language files of plugins
+ */
+public final class Main {
+    private static final String USAGE = """
+            Usage: java -jar minitranslator-cli.jar [options] <file or directory>...
+              --dry-run          don't write anything, only report what would change
+              --diff             print the changed lines
+              --threads <n>      number of files translated at once, all cores by default
+              --options <a,b,c>  translation options, %s by default
+            Files ending with .yml, .yaml, .properties, .lang and .json are translated.
+            """.formatted(optionsString(MiniTranslator.DEFAULT_OPTIONS));
+
+    private Main() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * @return the exit code: 0 if everything went fine, 1 if some files failed, 2 if the arguments are wrong
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        boolean write = true;
+        boolean diff = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Set<Option> options = MiniTranslator.DEFAULT_OPTIONS;
+        List<Path> roots = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--dry-run" -> write = false;
+                    case "--diff" -> diff = true;
+                    case "--threads" -> threads = Integer.parseInt(argument(args, ++i));
+                    case "--options" -> options = parseOptions(argument(args, ++i));
+                    case "--help", "-h" -> {
+                        out.print(USAGE);
+                        return 0;
+                    }
+                    default -> {
+                        if (args[i].startsWith("--")) throw new IllegalArgumentException("Unknown option " + args[i]);
+                        roots.add(Path.of(args[i]));
+                    }
+                }
+            }
+            if (roots.isEmpty()) throw new IllegalArgumentException("No files given");
+            if (threads < 1) throw new IllegalArgumentException("Threads must be positive");
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+
+        Set<Path> files = new TreeSet<>();
+        for (Path root : roots) {
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.filter(file -> Format.of(file) != null && Files.isRegularFile(file)).forEach(file -> files.add(file.normalize()));
+            } catch (IOException e) {
+                err.println("Can't read " + root + ": " + e.getMessage());
+                return 1;
+            }
+        }
+
+        Translator translator = Translator.of(options);
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, files.size())));
+        List<Future<Migration.Result>> results = new ArrayList<>(files.size());
+        final boolean writeFiles = write;
+        final boolean collectDiff = diff;
+        for (Path file : files) {
+            results.add(pool.submit(() -> Migration.migrate(file, Format.of(file), translator, writeFiles, collectDiff)));
+        }
+        pool.shutdown();
+
+        int changedFiles = 0;
+        int failedFiles = 0;
+        long values = 0;
+        for (Future<Migration.Result> future : results) {
+            Migration.Result result;
+            try {
+                result = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+                return 1;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Translation failed", e.getCause());
+            }
+            if (result.error() != null) {
+                failedFiles++;
+                err.println("Can't translate " + result.file() + ": " + result.error());
+                continue;
+            }
+            if (result.values() > 0) changedFiles++;
+            values += result.values();
+            out.printf(Locale.ROOT, "%6d values %9.2f ms  %s%n", result.values(), result.nanos() / 1e6, result.file());
+            if (result.diff() != null) out.print(result.diff());
+        }
+        out.printf(Locale.ROOT, "%s %d values in %d of %d files in %.2f s%s%n",
+                write ? "Translated" : "Would translate", values, changedFiles, files.size(),
+                (System.nanoTime() - started) / 1e9, failedFiles > 0 ? ", " + failedFiles + " failed" : "");
+        return failedFiles > 0 ? 1 : 0;
+    }
+
+    private static String argument(String[] args, int index) {
+        if (index >= args.length) throw new IllegalArgumentException(args[index - 1] + " needs a value");
+        return args[index];
+    }
+
+    private static Set<Option> parseOptions(String value) {
+        Set<Option> options = EnumSet.noneOf(Option.class);
+        for (String name : value.split(",")) {
+            if (name.isBlank()) continue;
+            try {
+                options.add(Option.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown translation option " + name);
+            }
+        }
+        return options;
+    }
+
+    private static String optionsString(Set<Option> options) {
+        StringBuilder builder = new StringBuilder();
+        for (Option option : options) {
+            if (!builder.isEmpty()) builder.append(',');
+            builder.append(option);
+        }
+        return builder.toString();
+    }
+}
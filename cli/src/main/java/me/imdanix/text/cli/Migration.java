@@ -0,0 +1,148 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.Translator;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Translates the values of one file and writes it back
+ */
+final class Migration {
+    private Migration() {}
+
+    /**
+     * Translate the file
+     * @param write whether to replace the file if anything was changed
+     * @param diff whether to collect the changed lines
+     * @return the result, with the error if the file couldn't be read or written
+     */
+    static Result migrate(Path file, Format format, Translator translator, boolean write, boolean diff) {
+        long started = System.nanoTime();
+        try {
+            Charset charset = StandardCharsets.UTF_8;
+            CharBuffer text;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                try {
+                    text = decoder(charset).decode(bytes);
+                } catch (CharacterCodingException e) {
+                    // Older properties files are Latin-1
+                    charset = StandardCharsets.ISO_8859_1;
+                    text = decoder(charset).decode(bytes.rewind());
+                }
+            }
+            StringBuilder out = new StringBuilder(text.length() + 64);
+            int values = format.translate(text, translator, out);
+            if (values > 0 && write) {
+                replace(file, charset.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .encode(CharBuffer.wrap(out)));
+            }
+            return new Result(file, values, System.nanoTime() - started, values > 0 && diff ? diff(file, text, out) : null, null);
+        } catch (IOException e) {
+            return new Result(file, 0, System.nanoTime() - started, null, e);
+        }
+    }
+
+    private static CharsetDecoder decoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    /**
+     * Write to a temporary file next to the original and move it over, so the file is never half-written
+     */
+    private static void replace(Path file, ByteBuffer bytes) throws IOException {
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bytes.hasRemaining()) channel.write(bytes);
+                channel.force(true);
+            }
+            try {
+                Files.setPosixFilePermissions(temporary, Files.getPosixFilePermissions(file));
+            } catch (UnsupportedOperationException ignored) {
+                // Not a POSIX file system, the default permissions are fine there
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Values are translated in place and never span new lines, so the changed lines are compared one by one
+     */
+    private static String diff(Path file, CharSequence before, CharSequence after) {
+        StringBuilder diff = new StringBuilder();
+        diff.append("--- ").append(file).append('\n').append("+++ ").append(file).append('\n');
+        int line = 1;
+        for (int old = 0, now = 0; old < before.length() || now < after.length(); line++) {
+            int oldEnd = Lines.end(before, old, before.length());
+            int nowEnd = Lines.end(after, now, after.length());
+            if (CharSequence.compare(before.subSequence(old, oldEnd), after.subSequence(now, nowEnd)) != 0) {
+                diff.append("@@ -").append(line).append(" +").append(line).append(" @@\n")
+                        .append('-').append(before, old, oldEnd).append('\n')
+                        .append('+').append(after, now, nowEnd).append('\n');
+            }
+            old = Lines.next(before, oldEnd, before.length());
+            now = Lines.next(after, nowEnd, after.length());
+        }
+        return diff.toString();
+    }
+
+    /**
+     * Result of one file
+     * @param values number of values changed
+     * @param nanos time spent on the file
+     * @param diff changed lines, if they were asked for and there are any
+     * @param error error if the file couldn't be read or written
+     */
+    record Result(Path file, int values, long nanos, @Nullable String diff, @Nullable IOException error) {}
+}
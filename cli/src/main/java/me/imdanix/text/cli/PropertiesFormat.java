@@ -0,0 +1,88 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.Translator;
+
+/**
+ * Java properties, where everything after the key and the separator is a value.
+ * Every line of a value that continues on the next lines is translated separately.
+ */
+final class PropertiesFormat implements Format {
+    static final PropertiesFormat INSTANCE = new PropertiesFormat();
+
+    private PropertiesFormat() {}
+
+    @Override
+    public int translate(CharSequence text, Translator translator, StringBuilder out) {
+        final int end = text.length();
+        int changed = 0;
+        boolean continued = false;
+        for (int start = 0; start < end; ) {
+            int lineEnd = Lines.end(text, start, end);
+            int index = skipSpaces(text, start, lineEnd);
+            int valueStart;
+            if (continued) {
+                valueStart = index;
+            } else if (index == lineEnd || text.charAt(index) == '#' || text.charAt(index) == '!') {
+                valueStart = lineEnd;
+            } else {
+                while (index < lineEnd && !isKeyEnd(text.charAt(index))) {
+                    index += text.charAt(index) == '\\' ? 2 : 1;
+                }
+                index = skipSpaces(text, Math.min(index, lineEnd), lineEnd);
+                if (index < lineEnd && (text.charAt(index) == '=' || text.charAt(index) == ':')) {
+                    index = skipSpaces(text, index + 1, lineEnd);
+                }
+                valueStart = index;
+            }
+            int valueEnd = lineEnd;
+            int backslashes = 0;
+            while (valueEnd - backslashes > valueStart && text.charAt(valueEnd - backslashes - 1) == '\\') backslashes++;
+            continued = backslashes % 2 == 1;
+            if (continued) valueEnd--;
+
+            out.append(text, start, valueStart);
+            if (Format.translateValue(text, valueStart, valueEnd, Escaping.PROPERTIES, translator, out)) changed++;
+            start = Lines.next(text, lineEnd, end);
+            out.append(text, valueEnd, start);
+        }
+        return changed;
+    }
+
+    private static int skipSpaces(CharSequence text, int from, int until) {
+        while (from < until && isSpace(text.charAt(from))) from++;
+        return from;
+    }
+
+    private static boolean isSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\f';
+    }
+
+    private static boolean isKeyEnd(char ch) {
+        return ch == '=' || ch == ':' || isSpace(ch);
+    }
+}
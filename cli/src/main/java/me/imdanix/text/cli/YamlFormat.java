@@ -0,0 +1,199 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text.cli;
+
+import me.imdanix.text.Translator;
+
+/**
+ * YAML as it's usually written in plugin configs, read line by line: {@code key: value} and {@code - value},
+ * with plain, quoted and block scalars. Flow collections, anchors, aliases and tagged values are left as they are.
+ */
+final class YamlFormat implements Format {
+    static final YamlFormat INSTANCE = new YamlFormat();
+
+    private YamlFormat() {}
+
+    @Override
+    public int translate(CharSequence text, Translator translator, StringBuilder out) {
+        final int end = text.length();
+        int changed = 0;
+        // Indentation of the line that started a block scalar, its lines are indented deeper
+        int blockIndent = -1;
+        int from = 0;
+        for (int start = 0, lineEnd; start < end; start = Lines.next(text, lineEnd, end)) {
+            lineEnd = Lines.end(text, start, end);
+            int index = start;
+            while (index < lineEnd && text.charAt(index) == ' ') index++;
+            int indent = index - start;
+            if (index == lineEnd) {
+                continue;
+            } else if (blockIndent != -1) {
+                if (indent > blockIndent) {
+                    out.append(text, from, index);
+                    if (Format.translateValue(text, index, lineEnd, Escaping.NONE, translator, out)) changed++;
+                    from = lineEnd;
+                    continue;
+                }
+                blockIndent = -1;
+            }
+            char first = text.charAt(index);
+            if (first == '#' || first == '%' || isDocumentMarker(text, index, lineEnd)) continue;
+
+            while (text.charAt(index) == '-' && (index + 1 == lineEnd || text.charAt(index + 1) == ' ')) {
+                index++;
+                while (index < lineEnd && text.charAt(index) == ' ') index++;
+                if (index == lineEnd) break;
+            }
+            if (index == lineEnd) continue;
+            int valueStart = valueStart(text, index, lineEnd);
+            if (valueStart == lineEnd) continue;
+
+            char ch = text.charAt(valueStart);
+            int valueEnd;
+            Escaping escaping;
+            if (ch == '"') {
+                valueEnd = quotedEnd(text, valueStart + 1, lineEnd);
+                escaping = Escaping.QUOTED;
+                valueStart++;
+            } else if (ch == '\'') {
+                valueEnd = singleQuotedEnd(text, valueStart + 1, lineEnd);
+                escaping = Escaping.SINGLE_QUOTED;
+                valueStart++;
+            } else if (ch == '|' || ch == '>') {
+                blockIndent = indent;
+                continue;
+            } else if (isIndicator(ch)) {
+                continue;
+            } else {
+                valueEnd = plainEnd(text, valueStart, lineEnd);
+                escaping = Escaping.NONE;
+            }
+            // Quoted values that continue on the next lines are left as they are
+            if (valueEnd == -1) continue;
+            out.append(text, from, valueStart);
+            if (Format.translateValue(text, valueStart, valueEnd, escaping, translator, out)) changed++;
+            from = valueEnd;
+        }
+        out.append(text, from, end);
+        return changed;
+    }
+
+    /**
+     * @return the start of the value after the key if there's one, or the index itself
+     */
+    private static int valueStart(CharSequence text, int index, int lineEnd) {
+        int keyEnd;
+        char first = text.charAt(index);
+        if (first == '"') {
+            keyEnd = quotedEnd(text, index + 1, lineEnd);
+            if (keyEnd == -1) return lineEnd;
+            keyEnd++;
+            while (keyEnd < lineEnd && text.charAt(keyEnd) == ' ') keyEnd++;
+            if (keyEnd == lineEnd || text.charAt(keyEnd) != ':') return index;
+        } else if (first == '\'') {
+            keyEnd = singleQuotedEnd(text, index + 1, lineEnd);
+            if (keyEnd == -1) return lineEnd;
+            keyEnd++;
+            while (keyEnd < lineEnd && text.charAt(keyEnd) == ' ') keyEnd++;
+            if (keyEnd == lineEnd || text.charAt(keyEnd) != ':') return index;
+        } else {
+            keyEnd = plainKeyEnd(text, index, lineEnd);
+            if (keyEnd == -1) return index;
+        }
+        int value = keyEnd + 1;
+        while (value < lineEnd && text.charAt(value) == ' ') value++;
+        return value < lineEnd && text.charAt(value) == '#' ? lineEnd : value;
+    }
+
+    /**
+     * @return the index of the colon after a plain key, or -1 if it's not a key
+     */
+    private static int plainKeyEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == ':' && (index + 1 == until || text.charAt(index + 1) == ' ')) {
+                return index;
+            } else if (ch == '#' && index > from && text.charAt(index - 1) == ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the end of a plain value, before a comment and trailing spaces
+     */
+    private static int plainEnd(CharSequence text, int from, int until) {
+        int end = until;
+        for (int index = from + 1; index < until; index++) {
+            if (text.charAt(index) == '#' && text.charAt(index - 1) == ' ') {
+                end = index;
+                break;
+            }
+        }
+        while (end > from && text.charAt(end - 1) == ' ') end--;
+        return end;
+    }
+
+    private static int quotedEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == '"') {
+                return index;
+            } else if (ch == '\\') {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    private static int singleQuotedEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            if (text.charAt(index) == '\'') {
+                if (index + 1 < until && text.charAt(index + 1) == '\'') {
+                    index++;
+                } else {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDocumentMarker(CharSequence text, int index, int lineEnd) {
+        if (index + 3 > lineEnd || (index + 3 < lineEnd && text.charAt(index + 3) != ' ')) return false;
+        char ch = text.charAt(index);
+        return (ch == '-' || ch == '.') && text.charAt(index + 1) == ch && text.charAt(index + 2) == ch;
+    }
+
+    // A plain value can't start with these, and anchors or tags are too rare in configs to look behind
+    private static boolean isIndicator(char ch) {
+        return switch (ch) {
+            case '[', '{', '&', '*', '!', '@', '`', '%', ',', ']', '}' -> true;
+            default -> false;
+        };
+    }
+}
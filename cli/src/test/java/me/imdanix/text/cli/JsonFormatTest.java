@@ -0,0 +1,31 @@
+package me.imdanix.text.cli;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.Translator;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class JsonFormatTest {
+    private static final Translator TRANSLATOR = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+
+    @DataProvider
+    public Object[][] jsonData() {
+        return new Object[][] {
+                {"{\"&akey\": \"&aValue\"}", "{\"&akey\": \"<green>Value\"}", 1},
+                {"{\n  \"list\" : [\"&bOne\", \"&cTwo\", 3, true],\n  \"nested\": {\"x\": \"&lBold\"}\n}",
+                        "{\n  \"list\" : [\"<aqua>One\", \"<red>Two\", 3, true],\n  \"nested\": {\"x\": \"<b>Bold\"}\n}", 3},
+                {"[\"\\u00a7aGreen \\\"quoted\\\"\\n\"]", "[\"<green>Green \\\"quoted\\\"\\n\"]", 1},
+                {"{\"plain\": \"No codes \\u00e9\"}", "{\"plain\": \"No codes \\u00e9\"}", 0},
+                {"[\"&a not closed", "[\"&a not closed", 0},
+        };
+    }
+
+    @Test(dataProvider = "jsonData")
+    public void translateTest(String input, String expected, int changed) {
+        StringBuilder out = new StringBuilder();
+        assertEquals(JsonFormat.INSTANCE.translate(input, TRANSLATOR, out), changed);
+        assertEquals(out.toString(), expected);
+    }
+}
@@ -0,0 +1,77 @@
+package me.imdanix.text.cli;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MainTest {
+    private Path directory;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeMethod
+    public void createFiles() throws IOException {
+        directory = Files.createTempDirectory("minitranslator");
+        Files.createDirectories(directory.resolve("plugins/Shop"));
+        Files.writeString(directory.resolve("plugins/Shop/messages.yml"), "prefix: '&a[Shop] '\nbuy: \"&eBought {item}\"\n");
+        Files.writeString(directory.resolve("plugins/lang.properties"), "hello=&cHello\n");
+        Files.write(directory.resolve("plugins/latin.properties"), "caf\u00e9=&c\u00e9t\u00e9\n".getBytes(StandardCharsets.ISO_8859_1));
+        Files.writeString(directory.resolve("plugins/data.json"), "{\"name\": \"No codes\"}");
+        Files.writeString(directory.resolve("plugins/notes.txt"), "&aNot translated");
+        out.reset();
+        err.reset();
+    }
+
+    @AfterMethod
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void translateTest() throws IOException {
+        assertEquals(run("--threads", "2", directory.toString()), 0);
+        assertEquals(Files.readString(directory.resolve("plugins/Shop/messages.yml")), "prefix: '<green>[Shop] '\nbuy: \"<yellow>Bought {item}\"\n");
+        assertEquals(Files.readString(directory.resolve("plugins/lang.properties")), "hello=<red>Hello\n");
+        assertEquals(new String(Files.readAllBytes(directory.resolve("plugins/latin.properties")), StandardCharsets.ISO_8859_1), "caf\u00e9=<red>\u00e9t\u00e9\n");
+        assertEquals(Files.readString(directory.resolve("plugins/notes.txt")), "&aNot translated");
+        assertTrue(out.toString().contains("Translated 4 values in 3 of 4 files"), out.toString());
+        try (Stream<Path> files = Files.list(directory.resolve("plugins"))) {
+            assertEquals(files.count(), 5, "Temporary files are left");
+        }
+    }
+
+    @Test
+    public void dryRunTest() throws IOException {
+        assertEquals(run("--dry-run", "--diff", directory.resolve("plugins/lang.properties").toString()), 0);
+        assertEquals(Files.readString(directory.resolve("plugins/lang.properties")), "hello=&cHello\n");
+        assertTrue(out.toString().contains("@@ -1 +1 @@\n-hello=&cHello\n+hello=<red>Hello\n"), out.toString());
+        assertTrue(out.toString().contains("Would translate 1 values in 1 of 1 files"), out.toString());
+    }
+
+    @Test
+    public void optionsTest() throws IOException {
+        assertEquals(run("--options", "format", directory.toString()), 0);
+        assertEquals(Files.readString(directory.resolve("plugins/lang.properties")), "hello=&cHello\n");
+        assertEquals(run("--options", "colour", directory.toString()), 2);
+        assertEquals(run("--unknown"), 2);
+        assertEquals(run(), 2);
+    }
+
+    private int run(String... args) {
+        return Main.run(args, new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+}
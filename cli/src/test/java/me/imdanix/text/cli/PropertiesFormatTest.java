@@ -0,0 +1,32 @@
+package me.imdanix.text.cli;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.Translator;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class PropertiesFormatTest {
+    private static final Translator TRANSLATOR = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+
+    @DataProvider
+    public Object[][] propertiesData() {
+        return new Object[][] {
+                {"greeting=&aHello\n", "greeting=<green>Hello\n", 1},
+                {"  greeting : &aHello\r\nfarewell &cBye", "  greeting : <green>Hello\r\nfarewell <red>Bye", 2},
+                {"# &a comment\n! &b comment\nkey\\=&a=&cvalue\n", "# &a comment\n! &b comment\nkey\\=&a=<red>value\n", 1},
+                {"multi=&aFirst \\\n    &bsecond\n", "multi=<green>First \\\n    <aqua>second\n", 2},
+                {"escaped=\\u00a7aGreen\\tTab\n", "escaped=<green>Green\\tTab\n", 1},
+                {"path=C:\\\\dir &a\n", "path=C:\\\\dir <green>\n", 1},
+                {"plain=No codes\nempty=\n", "plain=No codes\nempty=\n", 0},
+        };
+    }
+
+    @Test(dataProvider = "propertiesData")
+    public void translateTest(String input, String expected, int changed) {
+        StringBuilder out = new StringBuilder();
+        assertEquals(PropertiesFormat.INSTANCE.translate(input, TRANSLATOR, out), changed);
+        assertEquals(out.toString(), expected);
+    }
+}
@@ -0,0 +1,37 @@
+package me.imdanix.text.cli;
+
+import me.imdanix.text.MiniTranslator;
+import me.imdanix.text.Translator;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class YamlFormatTest {
+    private static final Translator TRANSLATOR = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+
+    @DataProvider
+    public Object[][] yamlData() {
+        return new Object[][] {
+                {"prefix: '&a[Shop] '\n", "prefix: '<green>[Shop] '\n", 1},
+                {"join: \"&e{player} joined\" # &c comment\n", "join: \"<yellow>{player} joined\" # &c comment\n", 1},
+                {"plain: Hello &cworld   # &a note\r\n", "plain: Hello <red>world   # &a note\r\n", 1},
+                {"'&a key': '&cIt''s &lbold'\n", "'&a key': '<red>It''s <b>bold'\n", 1},
+                {"messages:\n  list:\n    - '&aOne'\n    - - \"&bTwo\"\n", "messages:\n  list:\n    - '<green>One'\n    - - \"<aqua>Two\"\n", 2},
+                {"- name: '&6Gold'\n  lore: &anchor\n", "- name: '<gold>Gold'\n  lore: &anchor\n", 1},
+                {"motd: |\n  &aFirst\n\n  &b# Second\nnext: '&c'\n", "motd: |\n  <green>First\n\n  <aqua># Second\nnext: '<red>'\n", 3},
+                {"unicode: \"\\u00a7aGreen\"\n", "unicode: \"<green>Green\"\n", 1},
+                {"quote: \"&a\\\"quoted\\\"\"\n", "quote: \"<green>\\\"quoted\\\"\"\n", 1},
+                {"flow: [ '&a' ]\nmap: {a: '&b'}\n", "flow: [ '&a' ]\nmap: {a: '&b'}\n", 0},
+                {"---\n# &a comment\nkey: no codes\n...\n", "---\n# &a comment\nkey: no codes\n...\n", 0},
+                {"broken: \"&a not closed\n", "broken: \"&a not closed\n", 0},
+        };
+    }
+
+    @Test(dataProvider = "yamlData")
+    public void translateTest(String input, String expected, int changed) {
+        StringBuilder out = new StringBuilder();
+        assertEquals(YamlFormat.INSTANCE.translate(input, TRANSLATOR, out), changed);
+        assertEquals(out.toString(), expected);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+
+/**
+ * Translates many texts at once with the same {@link Translator}, reusing a buffer per worker.
+ * Batches of at least {@link #parallelThreshold()} texts are split between the workers of the executor.
+ * The results are always in the same order as the texts and identical to translating them one by one.
+ * <p>
+ * A single text of at least {@link #splitThreshold()} chars is split between the workers too, right after its resets,
+ * as nothing before a reset changes how the text after it is translated.
+ */
+public final class BatchTranslator {
+    /**
+     * The default minimal amount of texts to translate in parallel
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+    /**
+     * The default minimal length of a text to split between the workers
+     */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 1 << 16;
+
+    private final Translator translator;
+    private final int parallelThreshold;
+    private final int splitThreshold;
+    private final Executor executor;
+    private final int parallelism;
+
+    private BatchTranslator(Translator translator, int parallelThreshold, int splitThreshold, Executor executor) {
+        this.translator = translator;
+        this.parallelThreshold = parallelThreshold;
+        this.splitThreshold = splitThreshold;
+        this.executor = executor;
+        this.parallelism = executor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Get a batch translator with the default threshold that uses the common {@link ForkJoinPool}
+     * @param translator translator to use
+     * @return a new batch translator
+     */
+    public static @NotNull BatchTranslator of(@NotNull Translator translator) {
+        return builder(translator).build();
+    }
+
+    /**
+     * Create a new builder
+     * @param translator translator to use
+     * @return a new builder
+     */
+    public static @NotNull Builder builder(@NotNull Translator translator) {
+        return new Builder(translator);
+    }
+
+    /**
+     * Get the minimal amount of texts to translate in parallel
+     * @return the threshold
+     */
+    public int parallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Get the minimal length of a text to split between the workers
+     * @return the threshold
+     */
+    public int splitThreshold() {
+        return splitThreshold;
+    }
+
+    /**
+     * Translate a single text to MiniMessage format, splitting it between the workers if it's long enough.
+     * Minified translation can't be split, as its tags depend on the text after them.
+     * The translator's metrics record every part as a separate translation.
+     * @param text text to translate
+     * @return translated string, identical to {@link Translator#translate(String)}
+     */
+    public @NotNull String translate(@NotNull String text) {
+        if (text.length() < splitThreshold || parallelism < 2 || translator.has(Option.MINIFY)) {
+            return translator.translate(text);
+        }
+        int chunkSize = Math.max(splitThreshold / 4, (text.length() + parallelism * 4 - 1) / (parallelism * 4));
+        List<CompletableFuture<StringBuilder>> futures = new ArrayList<>();
+        for (int from = 0, to; from < text.length(); from = to) {
+            to = splitAfter(text, Math.min(text.length(), from + chunkSize));
+            if (from == 0 && to == text.length()) {
+                return translator.translate(text);
+            }
+            int start = from;
+            int end = to;
+            futures.add(CompletableFuture.supplyAsync(() -> translatePart(text, start, end), executor));
+        }
+        join(futures);
+        int length = 0;
+        for (CompletableFuture<StringBuilder> future : futures) {
+            length += future.join().length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        for (CompletableFuture<StringBuilder> future : futures) {
+            builder.append(future.join());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Find the first reset code that surely starts a code, i.e. isn't escaped, the symbol of another code,
+     * or a digit of {@code &x&1&2&3&4&5&6}. Valid gradients and hex colors have no markers in them.
+     * @return the index right after the code, or the end of the text if there's none
+     */
+    private int splitAfter(String text, int from) {
+        for (int index = from; index < text.length() - 1; index++) {
+            char ch = text.charAt(index);
+            if (!Translator.isMarker(ch) || (index > 0 && Translator.isMarker(text.charAt(index - 1)))) continue;
+            char symbol = text.charAt(index + 1);
+            if (translator.action(symbol) == Translator.RESET && Character.digit(symbol, 16) == -1) {
+                return index + 2;
+            }
+        }
+        return text.length();
+    }
+
+    private StringBuilder translatePart(String text, int start, int end) {
+        // The state after a reset is the same as a new one, except for the char before it
+        Translator.State state = new Translator.State();
+        if (start > 0) state.previous = text.charAt(start - 1);
+        StringBuilder builder = new StringBuilder(end - start + 16);
+        translator.translate(text, start, end, builder, state, true);
+        return builder;
+    }
+
+    /**
+     * Translate texts to MiniMessage format
+     * @param texts texts to translate
+     * @return an unmodifiable list of translated strings in the same order
+     */
+    public @NotNull List<String> translateAll(@NotNull List<? extends @NotNull CharSequence> texts) {
+        return List.of(translateAll(texts.toArray(new CharSequence[0]), new String[texts.size()]));
+    }
+
+    /**
+     * Translate texts to MiniMessage format
+     * @param texts texts to translate
+     * @return a new array of translated strings in the same order
+     */
+    public @NotNull String @NotNull [] translateAll(@NotNull String @NotNull [] texts) {
+        return translateAll(texts, new String[texts.length]);
+    }
+
+    /**
+     * Get a collector that translates the elements of a stream to MiniMessage format.
+     * The parallelism is controlled by the stream, so the threshold and executor are not used.
+     * @return a collector into an unmodifiable list of translated strings
+     */
+    public @NotNull Collector<@NotNull CharSequence, ?, @NotNull List<String>> toList() {
+        return Collector.of(
+                Accumulator::new,
+                Accumulator::add,
+                Accumulator::merge,
+                accumulator -> List.copyOf(accumulator.results)
+        );
+    }
+
+    private String[] translateAll(CharSequence[] texts, String[] results) {
+        if (texts.length < parallelThreshold) {
+            translateRange(texts, results, 0, texts.length);
+            return results;
+        }
+        int chunkSize = Math.max(parallelThreshold / 4, (texts.length + parallelism * 4 - 1) / (parallelism * 4));
+        List<CompletableFuture<Void>> futures = new ArrayList<>(texts.length / chunkSize + 1);
+        for (int from = 0; from < texts.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(texts.length, from + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> translateRange(texts, results, start, end), executor));
+        }
+        join(futures);
+        return results;
+    }
+
+    private static void join(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            if (exception.getCause() instanceof Error cause) throw cause;
+            throw exception;
+        }
+    }
+
+    private void translateRange(CharSequence[] texts, String[] results, int from, int to) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            CharSequence text = texts[i];
+            builder.setLength(0);
+            results[i] = translator.translate(text, 0, text.length(), builder).toString();
+        }
+    }
+
+    private final class Accumulator {
+        private final StringBuilder builder = new StringBuilder();
+        private List<String> results = new ArrayList<>();
+
+        private void add(CharSequence text) {
+            builder.setLength(0);
+            results.add(translator.translate(text, 0, text.length(), builder).toString());
+        }
+
+        private Accumulator merge(Accumulator other) {
+            if (results.isEmpty()) {
+                results = other.results;
+            } else {
+                results.addAll(other.results);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * A builder for {@link BatchTranslator}
+     */
+    public static final class Builder {
+        private final Translator translator;
+        private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        private int splitThreshold = DEFAULT_SPLIT_THRESHOLD;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(Translator translator) {
+            this.translator = translator;
+        }
+
+        /**
+         * Set the minimal amount of texts to translate in parallel
+         * @param parallelThreshold the threshold, {@link Integer#MAX_VALUE} to always translate sequentially
+         * @return this builder
+         */
+        public @NotNull Builder parallelThreshold(int parallelThreshold) {
+            if (parallelThreshold < 1) throw new IllegalArgumentException("Parallel threshold should be positive");
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Set the minimal length of a text to split between the workers
+         * @param splitThreshold the threshold, {@link Integer#MAX_VALUE} to never split a text
+         * @return this builder
+         */
+        public @NotNull Builder splitThreshold(int splitThreshold) {
+            if (splitThreshold < 1) throw new IllegalArgumentException("Split threshold should be positive");
+            this.splitThreshold = splitThreshold;
+            return this;
+        }
+
+        /**
+         * Set the executor to translate on, the common {@link ForkJoinPool} by default
+         * @param executor executor to use
+         * @return this builder
+         */
+        public @NotNull Builder executor(@NotNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build the batch translator
+         * @return a new batch translator
+         */
+        public @NotNull BatchTranslator build() {
+            return new BatchTranslator(translator, parallelThreshold, splitThreshold, executor);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walks the codes with the same rules as {@link Translator} does, but reports them to a {@link Sink} instead of writing tags.
+ * Keeps its own state, so a text can be walked in parts.
+ */
+final class CodeWalker {
+    private final Translator translator;
+    private final Sink sink;
+    // Closing names of the open tags, in the order they were opened
+    private final List<String> order = new ArrayList<>(2);
+    private boolean hadColor;
+    private char previous = ' ';
+    // Codes met during the last walk, for the metrics
+    int namedColors, hexColors, gradients, formats, resets;
+
+    CodeWalker(Translator translator, Sink sink) {
+        this.translator = translator;
+        this.sink = sink;
+    }
+
+    /**
+     * Walk a part of text, continuing from the previous part.
+     * Unless it's the last part, stops right before a code that may continue in the next part.
+     * @return the index the walk stopped at; the rest should be walked with the next part
+     */
+    int walk(CharSequence text, int start, int end, boolean last) {
+        final Translator translator = this.translator;
+        final Sink sink = this.sink;
+        namedColors = hexColors = gradients = formats = resets = 0;
+        int from = start;
+        int index = start;
+
+        scan:
+        for (; index < end; index++) {
+            char ch = text.charAt(index);
+            if (ch == '#') {
+                if (!translator.hexColorStandalone) continue;
+                if (!last && index + 7 >= end) break;
+                if (translator.isHexColorStandalone(text, index, end, index == start ? previous : text.charAt(index - 1))) {
+                    sink.text(text, from, index);
+                    sink.open(Translator.HEX_COLOR, translator.colorTagStart + text.subSequence(index + 1, index + 7));
+                    hexColors++;
+                    index += 6;
+                    from = index + 1;
+                }
+                continue;
+            } else if (!Translator.isMarker(ch)) {
+                continue;
+            }
+
+            final int marker = index;
+            if (++index >= end) {
+                if (!last) {
+                    index = marker;
+                    break;
+                }
+                sink.text(text, from, marker);
+                sink.text("&");
+                from = end;
+                break;
+            }
+
+            char symbol = text.charAt(index);
+            byte action = translator.action(symbol);
+            if (action == Translator.ESCAPE) {
+                sink.text(text, from, marker);
+                sink.text(translator.doubleToEscape ? "&" : "&&");
+                from = index + 1;
+                continue;
+            } else if (action == Translator.TEXT) {
+                sink.text(text, from, marker);
+                sink.text("&");
+                sink.text(text, index, index + 1);
+                from = index + 1;
+                continue;
+            }
+
+            switch (action) {
+                case Translator.HEX_COLOR, Translator.LEGACY_HEX_COLOR -> {
+                    boolean legacy = action == Translator.LEGACY_HEX_COLOR;
+                    if (!last && index + (legacy ? 13 : 7) > end) {
+                        index = marker;
+                        break scan;
+                    }
+                    sink.text(text, from, marker);
+                    from = index + 1;
+                    int hexEnd = legacy ? Translator.legacyHexColorEnd(text, index + 1, end) : Translator.hexColorEnd(text, index + 1, end);
+                    if (hexEnd == -1) {
+                        sink.text("&");
+                        sink.text(text, index, index + 1);
+                        continue;
+                    }
+                    handleClosing();
+                    StringBuilder tag = new StringBuilder(translator.colorTagStart);
+                    for (int i = legacy ? index + 2 : index + 1, step = legacy ? 2 : 1; i < hexEnd; i += step) {
+                        tag.append(text.charAt(i));
+                    }
+                    String name = tag.toString();
+                    order.add(name);
+                    sink.open(action, name);
+                    hexColors++;
+                    index = hexEnd - 1;
+                    from = hexEnd;
+                }
+                case Translator.GRADIENT -> {
+                    int gradientEnd = Translator.gradientEnd(text, index + 1, end);
+                    if (gradientEnd == end) {
+                        if (!last) {
+                            index = marker;
+                            break scan;
+                        }
+                        gradientEnd = -1;
+                    }
+                    sink.text(text, from, marker);
+                    from = index + 1;
+                    if (gradientEnd == -1) {
+                        sink.text("&@");
+                        continue;
+                    }
+                    handleClosing();
+                    StringBuilder tag = new StringBuilder("gradient");
+                    for (int stop = index + 1, stopEnd; stop < gradientEnd; stop = stopEnd + 1) {
+                        stopEnd = Translator.gradientStopEnd(text, stop, gradientEnd);
+                        tag.append(':');
+                        if (stopEnd - stop == 1) {
+                            tag.append(Translator.colorByChar(text.charAt(stop)));
+                        } else {
+                            tag.append(text, stop, stopEnd);
+                        }
+                    }
+                    order.add("gradient");
+                    sink.open(action, tag.toString());
+                    gradients++;
+                    index = gradientEnd;
+                    from = gradientEnd + 1;
+                }
+                case Translator.RESET -> {
+                    sink.text(text, from, marker);
+                    from = index + 1;
+                    order.clear();
+                    hadColor = false;
+                    sink.reset();
+                    resets++;
+                }
+                case Translator.FORMAT -> {
+                    sink.text(text, from, marker);
+                    from = index + 1;
+                    String name = translator.name(symbol);
+                    order.add(name);
+                    sink.open(action, name);
+                    formats++;
+                }
+                default -> {
+                    sink.text(text, from, marker);
+                    from = index + 1;
+                    String name = translator.name(symbol);
+                    handleClosing();
+                    order.add(name);
+                    sink.open(action, name);
+                    namedColors++;
+                }
+            }
+        }
+        sink.text(text, from, index);
+        if (index > start) {
+            previous = text.charAt(index - 1);
+        }
+        if (last && translator.closeColors) {
+            for (int i = order.size() - 1; i >= 0; i--) {
+                sink.close(order.get(i));
+            }
+            order.clear();
+        }
+        return index;
+    }
+
+    private void handleClosing() {
+        if (translator.fastReset && order.size() > 1) {
+            sink.reset();
+        } else for (int i = order.size() - 1, until = (hadColor && !translator.closeColors) ? 1 : 0; i >= until; i--) {
+            sink.close(order.get(i));
+        }
+        order.clear();
+        hadColor = true;
+    }
+
+    /**
+     * Receives the text and the tags in the order they appear
+     */
+    interface Sink {
+        /**
+         * A part of the text to keep as is, may be empty
+         */
+        void text(CharSequence text, int from, int to);
+
+        default void text(String text) {
+            text(text, 0, text.length());
+        }
+
+        /**
+         * A tag is opened
+         * @param action one of the {@link Translator} actions
+         * @param name the tag without brackets, e.g. {@code green} or {@code gradient:red:blue}
+         */
+        void open(byte action, String name);
+
+        /**
+         * The innermost tag with the name is closed, along with all the tags opened after it
+         * @param name closing name, e.g. {@code green} or {@code gradient}
+         */
+        void close(String name);
+
+        /**
+         * All the tags are closed
+         */
+        void reset();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+/**
+ * Colors of a flattened gradient for each char, interpolated the same way MiniMessage does.
+ * The tables are cached by the stops and the number of chars, so a line translated again only looks its table up.
+ */
+final class GradientColors {
+    private static final int CACHE_SIZE = 512;
+    // Entries are immutable, so racy publication is fine
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
+
+    private GradientColors() {}
+
+    /**
+     * @param text text with the stops of a valid gradient (e.g. {@code red-#123456-a})
+     * @return six hex digits of the color for each char
+     */
+    static String[] of(CharSequence text, int from, int to, int size) {
+        int hash = size;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        Entry entry = CACHE[slot];
+        if (entry == null || !entry.matches(text, from, to, size)) {
+            entry = new Entry(text.subSequence(from, to).toString(), size, interpolate(stops(text, from, to), size));
+            CACHE[slot] = entry;
+        }
+        return entry.colors;
+    }
+
+    private static int[] stops(CharSequence text, int from, int to) {
+        int count = 1;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == '-') count++;
+        }
+        int[] stops = new int[count];
+        for (int stop = from, stopEnd, i = 0; stop < to; stop = stopEnd + 1) {
+            stopEnd = Translator.gradientStopEnd(text, stop, to);
+            stops[i++] = Translator.colorValue(text, stop, stopEnd);
+        }
+        return stops;
+    }
+
+    private static String[] interpolate(int[] stops, int size) {
+        String[] colors = new String[size];
+        double multiplier = size == 1 ? 0 : (double) (stops.length - 1) / (size - 1);
+        for (int i = 0; i < size; i++) {
+            double position = i * multiplier;
+            int low = (int) Math.floor(position);
+            int high = (int) Math.ceil(position) % stops.length;
+            int color = lerp((float) position - low, stops[low % stops.length], stops[high]);
+            colors[i] = Integer.toHexString(0x1000000 | color).substring(1);
+        }
+        return colors;
+    }
+
+    // Rounded as TextColor.lerp does
+    private static int lerp(float t, int from, int to) {
+        float clamped = Math.min(1.0f, Math.max(0.0f, t));
+        int color = 0;
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            int a = (from >> shift) & 0xFF;
+            int b = (to >> shift) & 0xFF;
+            color |= Math.round(a + clamped * (b - a)) << shift;
+        }
+        return color;
+    }
+
+    private record Entry(String stops, int size, String[] colors) {
+        boolean matches(CharSequence text, int from, int to, int size) {
+            if (this.size != size || stops.length() != to - from) return false;
+            for (int i = 0; i < stops.length(); i++) {
+                if (stops.charAt(i) != text.charAt(from + i)) return false;
+            }
+            return true;
+        }
+    }
+}
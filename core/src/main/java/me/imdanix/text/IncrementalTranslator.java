@@ -0,0 +1,225 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Keeps the translation of a text that is edited in place, e.g. in a book or a sign editor.
+ * The text is translated in parts, and the state after every part is kept as a checkpoint.
+ * An edit is translated from the last checkpoint before it, until the state is the same as it was at one of the old checkpoints,
+ * and the rest of the old translation is reused. A reset code usually makes it the same right at the next checkpoint.
+ * <p>
+ * Not thread-safe.
+ */
+public final class IncrementalTranslator {
+    private static final int CHECKPOINT_INTERVAL = 256;
+
+    private final Translator translator;
+    private final int interval;
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder output = new StringBuilder();
+    // Checkpoints sorted by the text index, the first one is always at the start
+    private int[] inputs = new int[8];
+    private int[] outputs = new int[8];
+    // The part before a checkpoint may be decided by the text after it, e.g. &x&1&2&x is text because of the second &x.
+    // The translation never reads past the end of the part, so the furthest end is where the text stops mattering
+    private int[] reads = new int[8];
+    private State[] states = new State[8];
+    private int checkpoints = 1;
+
+    IncrementalTranslator(Translator translator, int interval) {
+        this.translator = translator;
+        this.interval = interval;
+        states[0] = new State();
+    }
+
+    /**
+     * Create an incremental translator with an empty text
+     * @param translator translator to use
+     * @return a new incremental translator
+     * @throws IllegalArgumentException if the translator minifies or flattens gradients, as the tags depend on the text after them
+     */
+    public static @NotNull IncrementalTranslator of(@NotNull Translator translator) {
+        if (translator.has(Option.MINIFY)) {
+            throw new IllegalArgumentException("Incremental translation can't be minified");
+        } else if (translator.has(Option.FLATTEN_GRADIENT)) {
+            throw new IllegalArgumentException("Incremental translation can't flatten gradients");
+        }
+        return new IncrementalTranslator(translator, CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Get the translator whose options are used
+     * @return the translator
+     */
+    public @NotNull Translator translator() {
+        return translator;
+    }
+
+    /**
+     * Get the current text
+     * @return the text with all the edits applied
+     */
+    public @NotNull String text() {
+        return text.toString();
+    }
+
+    /**
+     * Get the translation of the current text
+     * @return translated string
+     */
+    public @NotNull String output() {
+        return output.toString();
+    }
+
+    /**
+     * Replace the whole text
+     * @param text new text
+     * @return translated string
+     */
+    public @NotNull String set(@NotNull CharSequence text) {
+        return edit(0, this.text.length(), text);
+    }
+
+    /**
+     * Replace a part of the text
+     * @param start the start index of the part, inclusive
+     * @param end the end index of the part, exclusive
+     * @param replacement text to put instead, empty to delete the part
+     * @return translated string
+     */
+    public @NotNull String edit(int start, int end, @NotNull CharSequence replacement) {
+        Objects.checkFromToIndex(start, end, text.length());
+        final int delta = replacement.length() - (end - start);
+        text.replace(start, end, replacement.toString());
+
+        // Everything read to translate the text before the checkpoint must be before the edit
+        int kept = 0;
+        while (kept + 1 < checkpoints && reads[kept + 1] < start) kept++;
+        // The old translation can only be reused from the text that wasn't edited
+        int old = kept + 1;
+        while (old < checkpoints && inputs[old] < end) old++;
+
+        final int length = text.length();
+        final int outputStart = outputs[kept];
+        final State state = new State();
+        state.copyFrom(states[kept]);
+        final StringBuilder fresh = new StringBuilder();
+        int[] newInputs = new int[8];
+        int[] newOutputs = new int[8];
+        int[] newReads = new int[8];
+        State[] newStates = new State[8];
+        int added = 0;
+        int read = reads[kept];
+
+        int index = inputs[kept];
+        int chunkEnd = index;
+        while (true) {
+            final int target = old < checkpoints ? inputs[old] + delta : length;
+            // A code may be longer than the interval, e.g. a gradient of many colors, so the part grows until it's done
+            chunkEnd = Math.min(target, chunkEnd + interval);
+            if (chunkEnd == length) {
+                translator.translate(text, index, length, fresh, state, true);
+                output.setLength(outputStart);
+                output.append(fresh);
+                checkpoints = kept + 1;
+                break;
+            }
+            int stopped = translator.translate(text, index, chunkEnd, fresh, state, false);
+            if (stopped == target && state.sameAs(states[old])) {
+                int outputDelta = outputStart + fresh.length() - outputs[old];
+                output.replace(outputStart, outputs[old], fresh.toString());
+                for (int i = old; i < checkpoints; i++) {
+                    inputs[i] += delta;
+                    outputs[i] += outputDelta;
+                    // The new text before the checkpoint counts too, though its part ends right at it
+                    reads[i] = Math.max(reads[i] + delta, Math.max(read, chunkEnd));
+                }
+                removeCheckpoints(kept + 1, old);
+                break;
+            }
+            if (stopped > index) {
+                if (added == newInputs.length) {
+                    newInputs = Arrays.copyOf(newInputs, added * 2);
+                    newOutputs = Arrays.copyOf(newOutputs, added * 2);
+                    newReads = Arrays.copyOf(newReads, added * 2);
+                    newStates = Arrays.copyOf(newStates, added * 2);
+                }
+                read = Math.max(read, chunkEnd);
+                newInputs[added] = stopped;
+                newOutputs[added] = outputStart + fresh.length();
+                newReads[added] = read;
+                newStates[added] = new State();
+                newStates[added].copyFrom(state);
+                added++;
+                index = stopped;
+                chunkEnd = index;
+                while (old < checkpoints && inputs[old] + delta <= index) old++;
+            } else if (chunkEnd == target) {
+                // A code goes over the old checkpoint now
+                old++;
+            }
+        }
+        insertCheckpoints(kept + 1, newInputs, newOutputs, newReads, newStates, added);
+        return output.toString();
+    }
+
+    private void removeCheckpoints(int from, int to) {
+        int rest = checkpoints - to;
+        System.arraycopy(inputs, to, inputs, from, rest);
+        System.arraycopy(outputs, to, outputs, from, rest);
+        System.arraycopy(reads, to, reads, from, rest);
+        System.arraycopy(states, to, states, from, rest);
+        Arrays.fill(states, from + rest, checkpoints, null);
+        checkpoints = from + rest;
+    }
+
+    private void insertCheckpoints(int at, int[] newInputs, int[] newOutputs, int[] newReads, State[] newStates, int count) {
+        if (checkpoints + count > inputs.length) {
+            int capacity = Math.max(inputs.length * 2, checkpoints + count);
+            inputs = Arrays.copyOf(inputs, capacity);
+            outputs = Arrays.copyOf(outputs, capacity);
+            reads = Arrays.copyOf(reads, capacity);
+            states = Arrays.copyOf(states, capacity);
+        }
+        int rest = checkpoints - at;
+        System.arraycopy(inputs, at, inputs, at + count, rest);
+        System.arraycopy(outputs, at, outputs, at + count, rest);
+        System.arraycopy(reads, at, reads, at + count, rest);
+        System.arraycopy(states, at, states, at + count, rest);
+        System.arraycopy(newInputs, 0, inputs, at, count);
+        System.arraycopy(newOutputs, 0, outputs, at, count);
+        System.arraycopy(newReads, 0, reads, at, count);
+        System.arraycopy(newStates, 0, states, at, count);
+        checkpoints += count;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.util.*;
+
+/**
+ * A "translator" from legacy Minecraft JE formatting (e.g. &a &4 &l) to MiniMessage-acceptable format
+ */
+public final class MiniTranslator {
+    /**
+     * The default options used in {@link MiniTranslator#toMini(String)}.
+     * The content might change in the future.
+     */
+    public static final Set<Option> DEFAULT_OPTIONS = Collections.unmodifiableSet(EnumSet.of(
+            Option.COLOR, Option.FORMAT, Option.RESET, Option.GRADIENT, Option.FAST_RESET, Option.DOUBLE_TO_ESCAPE
+    ));
+
+    private static final Translator DEFAULT_TRANSLATOR = Translator.of(DEFAULT_OPTIONS);
+
+    private MiniTranslator() {}
+
+    /**
+     * Translate text to MiniMessage format using default options
+     * @param text text to translate
+     * @return translated string
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull String toMini(@NotNull String text) {
+        return DEFAULT_TRANSLATOR.translate(text);
+    }
+
+    /**
+     * Translate text to MiniMessage format using default options, cutting it so it renders no more than the provided number of chars
+     * @param text text to translate
+     * @param maxVisible maximum number of visible chars
+     * @return translated string, with all the tags closed if it was cut
+     * @see Translator#translate(String, int)
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull String toMini(@NotNull String text, int maxVisible) {
+        return DEFAULT_TRANSLATOR.translate(text, maxVisible);
+    }
+
+    /**
+     * Count the chars the text renders after translating it using default options, with nothing written
+     * @param text text to measure
+     * @return the number of visible chars
+     * @see Translator#visibleLength(CharSequence)
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static int visibleLength(@NotNull String text) {
+        return DEFAULT_TRANSLATOR.visibleLength(text);
+    }
+
+    /**
+     * Translate a part of text to MiniMessage format using default options, appending the result to the provided builder
+     * @param text text to translate
+     * @param start the start index of the part, inclusive
+     * @param end the end index of the part, exclusive
+     * @param builder builder to append the result to, must not be the text itself
+     * @return the provided builder
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull StringBuilder toMini(@NotNull CharSequence text, int start, int end, @NotNull StringBuilder builder) {
+        return DEFAULT_TRANSLATOR.translate(text, start, end, builder);
+    }
+
+    /**
+     * Translate a part of text to MiniMessage format using default options, appending the result to the provided appendable
+     * @param text text to translate
+     * @param start the start index of the part, inclusive
+     * @param end the end index of the part, exclusive
+     * @param out appendable to append the result to, must not be the text itself
+     * @return the provided appendable
+     * @throws IOException if the appendable throws one
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static <A extends Appendable> @NotNull A toMini(@NotNull CharSequence text, int start, int end, @NotNull A out) throws IOException {
+        return DEFAULT_TRANSLATOR.translate(text, start, end, out);
+    }
+
+    /**
+     * Translate UTF-8 text to MiniMessage format in UTF-8 using default options, reading the bytes as chars rather than decoding them
+     * @param utf8 text to translate
+     * @return a new array with the translated text
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static byte @NotNull [] toMini(byte @NotNull [] utf8) {
+        return DEFAULT_TRANSLATOR.translate(utf8);
+    }
+
+    /**
+     * Translate the remaining UTF-8 text of the buffer to MiniMessage format in UTF-8 using default options,
+     * reading the bytes as chars rather than decoding them
+     * @param in buffer to read the text from
+     * @param out buffer to write the translated text to
+     * @return {@link CoderResult#UNDERFLOW} if the whole text was translated,
+     *         or {@link CoderResult#OVERFLOW} if there's not enough space in the output buffer
+     * @see Translator#translate(ByteBuffer, ByteBuffer)
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull CoderResult toMini(@NotNull ByteBuffer in, @NotNull ByteBuffer out) {
+        return DEFAULT_TRANSLATOR.translate(in, out);
+    }
+
+    /**
+     * Translate text to MiniMessage format
+     * @param text text to translate
+     * @param options options to use
+     * @return translated string
+     * @see Translator#of(Option...)
+     */
+    public static @NotNull String toMini(@NotNull String text, @NotNull Option @NotNull ... options) {
+        return Translator.of(options).translate(text);
+    }
+
+    /**
+     * Translate text to MiniMessage format
+     * @param text text to translate
+     * @param options options to use
+     * @return translated string
+     * @see Translator#of(Collection)
+     */
+    public static @NotNull String toMini(@NotNull String text, @NotNull Collection<@NotNull Option> options) {
+        return Translator.of(options).translate(text);
+    }
+
+    /**
+     * Translate text to MiniMessage format, cutting it so it renders no more than the provided number of chars
+     * @param text text to translate
+     * @param options options to use
+     * @param maxVisible maximum number of visible chars
+     * @return translated string, with all the tags closed if it was cut
+     * @see Translator#translate(String, int)
+     */
+    public static @NotNull String toMini(@NotNull String text, @NotNull Collection<@NotNull Option> options, int maxVisible) {
+        return Translator.of(options).translate(text, maxVisible);
+    }
+
+    /**
+     * Count the chars the text renders after translating it, with nothing written
+     * @param text text to measure
+     * @param options options to use
+     * @return the number of visible chars
+     * @see Translator#visibleLength(CharSequence)
+     */
+    public static int visibleLength(@NotNull String text, @NotNull Option @NotNull ... options) {
+        return Translator.of(options).visibleLength(text);
+    }
+
+    /**
+     * Count the chars the text renders after translating it, with nothing written
+     * @param text text to measure
+     * @param options options to use
+     * @return the number of visible chars
+     * @see Translator#visibleLength(CharSequence)
+     */
+    public static int visibleLength(@NotNull String text, @NotNull Collection<@NotNull Option> options) {
+        return Translator.of(options).visibleLength(text);
+    }
+
+    /**
+     * Translation options
+     */
+    public enum Option {
+        /**
+         * Translate colors (e.g. {@code &a} {@code &1} {@code &#123456})
+         */
+        COLOR,
+        /**
+         * Translate standalone hex colors without the special sign {@code &} (e.g. {@code #123456})
+         */
+        HEX_COLOR_STANDALONE,
+        /**
+         * Translate formatting (e.g. {@code &l} {@code &o})
+         */
+        FORMAT,
+        /**
+         * Translate the reset tag {@code &r}
+         */
+        RESET,
+        /**
+         * Use the full MiniMessage color format {@code <color:#123456>} instead of the shortened one {@code <#123456>}
+         */
+        VERBOSE_HEX_COLOR,
+        /**
+         * Translate custom gradient format (e.g. {@code &@gold-#123456@})
+         */
+        GRADIENT,
+        /**
+         * Place the reset tag when there are 2+ tags to close (ignores {@link Option#RESET})
+         */
+        FAST_RESET,
+        /**
+         * Close color tags when another color was found
+         */
+        CLOSE_COLORS,
+        /**
+         * Allow EssentialsX-like {@code &&} escaping
+         */
+        DOUBLE_TO_ESCAPE,
+        /**
+         * Only write the tags that change how the text looks, closing them or using the reset tag, whichever is shorter
+         * (e.g. {@code &a&lA&r&a&lB} becomes {@code <green><b>AB}).
+         * Tags that are already in the text may apply differently then, and translation is slower
+         */
+        MINIFY,
+        /**
+         * Write a gradient as a hex color for every char it spreads over, up to the next color or reset
+         * (e.g. {@code &@red-blue@Hi} becomes {@code <#ff5555>H</#ff5555><#5555ff>i</#5555ff>}),
+         * for consumers that don't support gradient tags. The result is longer and slower for MiniMessage to parse.
+         * Tags that are already in the text are split up by the colors then. Ignored with {@link Option#MINIFY},
+         * and can't be used for templates, incremental or streamed translation
+         */
+        FLATTEN_GRADIENT
+    }
+}
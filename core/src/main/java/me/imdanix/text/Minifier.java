@@ -0,0 +1,234 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the tags only when there's text for them, and only as many as the text needs to look the same.
+ * The tags that are open for MiniMessage are tracked as the walk goes; right before the text,
+ * the written tags are brought to the visible part of them, by closing tags or by a reset, whichever is shorter.
+ */
+final class Minifier implements CodeWalker.Sink {
+    private static final String RESET = "<reset>";
+
+    private final Translator translator;
+    final CodeWalker walker;
+    // Tags that would be open for MiniMessage with nothing minified, and the ones actually written
+    private final List<Tag> open = new ArrayList<>(4);
+    private final List<Tag> written = new ArrayList<>(4);
+    private final List<Tag> wanted = new ArrayList<>(4);
+    private final List<Tag> visible = new ArrayList<>(4);
+    private boolean changed;
+    private boolean resetAtEnd;
+    private StringBuilder builder;
+
+    Minifier(Translator translator) {
+        this.translator = translator;
+        this.walker = new CodeWalker(translator, this);
+    }
+
+    /**
+     * Translate a part of text, continuing from the previous part
+     * @return the index the translation stopped at, as {@link CodeWalker#walk(CharSequence, int, int, boolean)} does
+     */
+    int translate(CharSequence text, int start, int end, StringBuilder builder, boolean last) {
+        this.builder = builder;
+        int stopped = walker.walk(text, start, end, last);
+        if (last && translator.closeColors) {
+            // Close what the full translation closes, and reset only where it did, as the text may be placed inside other tags
+            int common = collect(wanted, written);
+            if (resetAtEnd && RESET.length() < close(common, false)) {
+                builder.append(RESET);
+                written.clear();
+            } else {
+                close(common, true);
+            }
+        }
+        this.builder = null;
+        return stopped;
+    }
+
+    /**
+     * Close all the tags written so far, so the text can be cut with nothing left open
+     */
+    void closeAll(StringBuilder builder) {
+        this.builder = builder;
+        close(0, true);
+        this.builder = null;
+    }
+
+    @Override
+    public void text(CharSequence text, int from, int to) {
+        if (from == to) return;
+        resetAtEnd = false;
+        if (changed) {
+            reconcile();
+            changed = false;
+        }
+        builder.append(text, from, to);
+    }
+
+    @Override
+    public void open(byte action, String name) {
+        open.add(new Tag(action, name));
+        changed = true;
+    }
+
+    @Override
+    public void close(String name) {
+        boolean byName = name.indexOf(':') == -1;
+        for (int i = open.size() - 1; i >= 0; i--) {
+            String tag = open.get(i).name;
+            if (tag.equals(name) || (byName && tag.startsWith(name) && tag.charAt(name.length()) == ':')) {
+                open.subList(i, open.size()).clear();
+                changed = true;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        open.clear();
+        changed = true;
+        resetAtEnd = true;
+    }
+
+    private void reconcile() {
+        int common = collect(wanted, written);
+        int closing = close(common, false) + openingLength(wanted, common);
+        // Reopening a gradient would start it over
+        boolean canReset = true;
+        for (int i = 0; i < common; i++) {
+            canReset &= wanted.get(i).action != Translator.GRADIENT;
+        }
+        if (canReset) {
+            collect(visible, List.of());
+            if (RESET.length() + openingLength(visible, 0) < closing) {
+                builder.append(RESET);
+                written.clear();
+                open(visible, 0);
+                return;
+            }
+        }
+        close(common, true);
+        open(wanted, common);
+    }
+
+    /**
+     * Close the written tags from the index. A tag closes all the tags opened after it,
+     * but it's the innermost tag with the same name that gets closed, so it may take a few
+     * @return the length of the closing tags
+     */
+    private int close(int from, boolean write) {
+        int length = 0;
+        for (int size = written.size(); size > from; ) {
+            String closing = written.get(from).closing;
+            do size--; while (!written.get(size).closing.equals(closing));
+            length += closing.length();
+            if (write) builder.append(closing);
+        }
+        if (write) written.subList(from, written.size()).clear();
+        return length;
+    }
+
+    /**
+     * Collect the open tags that change how the text looks.
+     * Colors are hidden by the ones opened after them, but a gradient counts all the text inside to pick its colors, so it stays.
+     * The written tags are kept from the start for as long as they match, even if they're hidden now.
+     * @return the number of the written tags kept
+     */
+    private int collect(List<Tag> into, List<Tag> written) {
+        int color = open.size() - 1;
+        while (color >= 0 && open.get(color).action == Translator.FORMAT) color--;
+        into.clear();
+        int common = 0;
+        for (int i = 0; i < open.size(); i++) {
+            Tag tag = open.get(i);
+            if (common == into.size() && common < written.size() && written.get(common).same(tag)) {
+                into.add(tag);
+                common++;
+            } else if (tag.action == Translator.FORMAT ? !hasFormat(into, tag.name) : tag.action == Translator.GRADIENT || (i == color && !isLastColor(into, tag))) {
+                into.add(tag);
+            }
+        }
+        return common;
+    }
+
+    private void open(List<Tag> tags, int from) {
+        for (int i = from; i < tags.size(); i++) {
+            Tag tag = tags.get(i);
+            builder.append(tag.opening);
+            written.add(tag);
+        }
+    }
+
+    private static int openingLength(List<Tag> tags, int from) {
+        int length = 0;
+        for (int i = from; i < tags.size(); i++) {
+            length += tags.get(i).opening.length();
+        }
+        return length;
+    }
+
+    private static boolean hasFormat(List<Tag> tags, String name) {
+        for (Tag tag : tags) {
+            if (tag.name.equals(name)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastColor(List<Tag> tags, Tag color) {
+        for (int i = tags.size() - 1; i >= 0; i--) {
+            Tag tag = tags.get(i);
+            if (tag.action != Translator.FORMAT) return tag.same(color);
+        }
+        return false;
+    }
+
+    private static final class Tag {
+        final byte action;
+        final String name;
+        final String opening;
+        final String closing;
+
+        Tag(byte action, String name) {
+            this.action = action;
+            this.name = name;
+            this.opening = '<' + name + '>';
+            this.closing = "</" + (action == Translator.GRADIENT ? "gradient" : name) + '>';
+        }
+
+        /**
+         * @return true if the tags look the same; every gradient is only the same as itself, as its colors depend on its text
+         */
+        boolean same(Tag other) {
+            return this == other || (action != Translator.GRADIENT && name.equals(other.name));
+        }
+    }
+}
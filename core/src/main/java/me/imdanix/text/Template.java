@@ -0,0 +1,241 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator.State;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A legacy text with {@code {placeholder}}s, translated once and rendered with different values.
+ * The text between placeholders is translated when compiled, along with the open tags at every placeholder,
+ * so rendering only has to put the values in and translate the ones that may have codes.
+ * A code never continues from the text to a value or the other way around.
+ * <p>
+ * Immutable and thread-safe.
+ */
+public final class Template {
+    private final Translator translator;
+    private final String[] segments;
+    private final String[] fragments;
+    private final String[] names;
+    // The state at every placeholder, never changed after compiling
+    private final State[] states;
+    private final int length;
+
+    private Template(Translator translator, String[] segments, String[] fragments, String[] names, State[] states) {
+        this.translator = translator;
+        this.segments = segments;
+        this.fragments = fragments;
+        this.names = names;
+        this.states = states;
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * Compile a template using default options
+     * @param template text with {@code {placeholder}}s
+     * @return compiled template
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public static @NotNull Template compile(@NotNull String template) {
+        return compile(template, Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+    }
+
+    /**
+     * Compile a template
+     * @param template text with {@code {placeholder}}s
+     * @param options options to use
+     * @return compiled template
+     * @throws IllegalArgumentException if {@link Option#MINIFY} or {@link Option#FLATTEN_GRADIENT} is enabled
+     */
+    public static @NotNull Template compile(@NotNull String template, @NotNull Option @NotNull ... options) {
+        return compile(template, Translator.of(options));
+    }
+
+    /**
+     * Compile a template
+     * @param template text with {@code {placeholder}}s
+     * @param options options to use
+     * @return compiled template
+     * @throws IllegalArgumentException if {@link Option#MINIFY} or {@link Option#FLATTEN_GRADIENT} is enabled
+     */
+    public static @NotNull Template compile(@NotNull String template, @NotNull Collection<@NotNull Option> options) {
+        return compile(template, Translator.of(options));
+    }
+
+    /**
+     * Compile a template
+     * @param template text with {@code {placeholder}}s
+     * @param translator translator to use
+     * @return compiled template
+     * @throws IllegalArgumentException if the translator minifies or flattens gradients, as the tags would depend on the values
+     */
+    public static @NotNull Template compile(@NotNull String template, @NotNull Translator translator) {
+        if (translator.has(Option.MINIFY)) {
+            throw new IllegalArgumentException("Templates can't be minified");
+        } else if (translator.has(Option.FLATTEN_GRADIENT)) {
+            throw new IllegalArgumentException("Templates can't flatten gradients");
+        }
+        List<String> segments = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        for (int index = template.indexOf('{'); index != -1; index = template.indexOf('{', index + 1)) {
+            int nameEnd = placeholderEnd(template, index + 1);
+            if (nameEnd == -1) continue;
+            segments.add(template.substring(from, index));
+            names.add(template.substring(index + 1, nameEnd));
+            from = nameEnd + 1;
+            index = nameEnd;
+        }
+        segments.add(template.substring(from));
+
+        String[] fragments = new String[segments.size()];
+        State[] states = new State[names.size()];
+        State state = new State();
+        StringBuilder builder = new StringBuilder(template.length() + 16);
+        for (int i = 0; i < fragments.length; i++) {
+            String segment = segments.get(i);
+            state.previous = ' ';
+            translator.translate(segment, 0, segment.length(), builder, state, true, i == names.size());
+            fragments[i] = builder.toString();
+            builder.setLength(0);
+            if (i < states.length) {
+                states[i] = new State();
+                states[i].copyFrom(state);
+            }
+        }
+        return new Template(translator, segments.toArray(new String[0]), fragments, names.toArray(new String[0]), states);
+    }
+
+    /**
+     * @return the index of the closing brace, or -1 if it's not a placeholder
+     */
+    private static int placeholderEnd(String template, int from) {
+        for (int index = from; index < template.length(); index++) {
+            char ch = template.charAt(index);
+            if (ch == '}') {
+                return index > from ? index : -1;
+            } else if (!isNameChar(ch)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char ch) {
+        return ('a' <= ch && ch <= 'z') || ('A' <= ch && ch <= 'Z') || ('0' <= ch && ch <= '9') || ch == '_' || ch == '-' || ch == '.';
+    }
+
+    /**
+     * Get the translator whose options are used
+     * @return the translator
+     */
+    public @NotNull Translator translator() {
+        return translator;
+    }
+
+    /**
+     * Get the placeholder names in the order they appear, the same name may appear more than once
+     * @return an unmodifiable list of names
+     */
+    public @NotNull List<String> placeholders() {
+        return List.of(names);
+    }
+
+    /**
+     * Render the template with plain values, escaped so MiniMessage shows them as they are
+     * @param values values by placeholder names; placeholders with no value are kept as they are
+     * @return rendered MiniMessage string
+     */
+    public @NotNull String render(@NotNull Map<String, ? extends CharSequence> values) {
+        return render(values, Map.of());
+    }
+
+    /**
+     * Render the template
+     * @param plain plain values by placeholder names, escaped so MiniMessage shows them as they are
+     * @param translated values by placeholder names to translate in place, continuing with the tags open at the placeholder
+     * @return rendered MiniMessage string
+     */
+    public @NotNull String render(@NotNull Map<String, ? extends CharSequence> plain, @NotNull Map<String, ? extends CharSequence> translated) {
+        StringBuilder builder = new StringBuilder(length + names.length * 16);
+        // Null while the tags are the same as compiled, so the compiled fragments can be used
+        State state = null;
+        for (int i = 0; ; i++) {
+            if (state == null) {
+                builder.append(fragments[i]);
+            } else {
+                String segment = segments[i];
+                state.previous = ' ';
+                translator.translate(segment, 0, segment.length(), builder, state, true, i == names.length);
+                if (i < names.length && state.sameTags(states[i])) state = null;
+            }
+            if (i == names.length) break;
+
+            String name = names[i];
+            CharSequence value = translated.get(name);
+            if (value != null) {
+                if (state == null) {
+                    if (value instanceof String string && !translator.hasCodes(string)) {
+                        builder.append(string);
+                        continue;
+                    }
+                    state = new State();
+                    state.copyFrom(states[i]);
+                }
+                state.previous = ' ';
+                translator.translate(value, 0, value.length(), builder, state, true, false);
+                if (state.sameTags(states[i])) state = null;
+                continue;
+            }
+            value = plain.get(name);
+            if (value == null) {
+                builder.append('{').append(name).append('}');
+            } else {
+                escape(value, builder);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void escape(CharSequence value, StringBuilder builder) {
+        for (int i = 0, end = value.length(); i < end; i++) {
+            char ch = value.charAt(i);
+            if (ch == '<' || ch == '\\') builder.append('\\');
+            builder.append(ch);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A reader that translates the text of another reader to MiniMessage format.
+ * Codes split between reads are handled, so the result is the same as translating all the text at once.
+ */
+public final class TranslatingReader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final Translator translator;
+    private final Translator.State state = new Translator.State();
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder pending = new StringBuilder();
+    private final StringBuilder output = new StringBuilder();
+    private int position;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Create a reader that translates using default options
+     * @param in reader to translate the text of
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public TranslatingReader(@NotNull Reader in) {
+        this(in, Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+    }
+
+    /**
+     * Create a reader that translates using the provided translator
+     * @param in reader to translate the text of
+     * @param translator translator to use
+     * @throws IllegalArgumentException if the translator flattens gradients, as their colors may depend on the whole text after them
+     */
+    public TranslatingReader(@NotNull Reader in, @NotNull Translator translator) {
+        super(in);
+        if (translator.has(Option.FLATTEN_GRADIENT)) {
+            throw new IllegalArgumentException("Streamed translation can't flatten gradients");
+        }
+        this.in = in;
+        this.translator = translator;
+    }
+
+    @Override
+    public int read(char @NotNull [] cbuf, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        synchronized (lock) {
+            ensureOpen();
+            if (len == 0) return 0;
+            while (position == output.length()) {
+                if (finished) return -1;
+                fill();
+            }
+            int count = Math.min(len, output.length() - position);
+            output.getChars(position, position + count, cbuf, off);
+            position += count;
+            return count;
+        }
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            return position < output.length() || in.ready();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            in.close();
+        }
+    }
+
+    private void fill() throws IOException {
+        output.setLength(0);
+        position = 0;
+        int read = in.read(buffer);
+        if (read == -1) {
+            finished = true;
+            translator.translate(pending, 0, pending.length(), output, state, true);
+            pending.setLength(0);
+        } else {
+            pending.append(buffer, 0, read);
+            int stopped = translator.translate(pending, 0, pending.length(), output, state, false);
+            pending.delete(0, stopped);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Reader closed");
+    }
+}
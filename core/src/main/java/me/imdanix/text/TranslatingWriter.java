@@ -0,0 +1,156 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A writer that translates everything written to it to MiniMessage format before passing it further.
+ * Codes split between writes are handled, so the result is the same as translating all the text at once.
+ * Only the end of the text that may be a part of an unfinished code is kept in memory.
+ * The translation is only complete when the writer is closed.
+ */
+public final class TranslatingWriter extends Writer {
+    private final Writer out;
+    private final Translator translator;
+    private final Translator.State state = new Translator.State();
+    private final StringBuilder pending = new StringBuilder();
+    private final StringBuilder output = new StringBuilder();
+    private boolean closed;
+
+    /**
+     * Create a writer that translates using default options
+     * @param out writer to pass the translated text to
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public TranslatingWriter(@NotNull Writer out) {
+        this(out, Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+    }
+
+    /**
+     * Create a writer that translates using the provided translator
+     * @param out writer to pass the translated text to
+     * @param translator translator to use
+     * @throws IllegalArgumentException if the translator flattens gradients, as their colors may depend on the whole text after them
+     */
+    public TranslatingWriter(@NotNull Writer out, @NotNull Translator translator) {
+        super(out);
+        if (translator.has(Option.FLATTEN_GRADIENT)) {
+            throw new IllegalArgumentException("Streamed translation can't flatten gradients");
+        }
+        this.out = out;
+        this.translator = translator;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            pending.append((char) c);
+            translatePending(false);
+        }
+    }
+
+    @Override
+    public void write(char @NotNull [] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            if (pending.isEmpty()) {
+                int stopped = translator.translate(CharBuffer.wrap(cbuf, off, len), 0, len, output, state, false);
+                pending.append(cbuf, off + stopped, len - stopped);
+                writeOutput();
+            } else {
+                pending.append(cbuf, off, len);
+                translatePending(false);
+            }
+        }
+    }
+
+    @Override
+    public void write(@NotNull String str, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            if (pending.isEmpty()) {
+                int stopped = translator.translate(str, off, off + len, output, state, false);
+                pending.append(str, stopped, off + len);
+                writeOutput();
+            } else {
+                pending.append(str, off, off + len);
+                translatePending(false);
+            }
+        }
+    }
+
+    /**
+     * Flush the translated text. The end of the text that may be a part of an unfinished code is kept until more text is written.
+     * @throws IOException if the underlying writer throws one
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            out.flush();
+        }
+    }
+
+    /**
+     * Translate the rest of the text and close the underlying writer
+     * @throws IOException if the underlying writer throws one
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            try {
+                translatePending(true);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private void translatePending(boolean last) throws IOException {
+        int stopped = translator.translate(pending, 0, pending.length(), output, state, last);
+        pending.delete(0, stopped);
+        writeOutput();
+    }
+
+    private void writeOutput() throws IOException {
+        if (!output.isEmpty()) {
+            out.append(output);
+            output.setLength(0);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Writer closed");
+    }
+}
@@ -0,0 +1,333 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache of translations, keyed by the text and the {@link Translator} used.
+ * The cache is split into segments with their own locks, so concurrent lookups of different texts rarely wait for each other.
+ * When a segment is full, a new translation only replaces the least recently used one if it was requested more often,
+ * so one-off messages don't push out the frequently used ones.
+ */
+public final class TranslationCache {
+    private static final Translator DEFAULT_TRANSLATOR = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private TranslationCache(long maximumEntries, long maximumCharacters) {
+        long bound = maximumEntries != Long.MAX_VALUE ? maximumEntries : maximumCharacters / 64;
+        int count = Integer.highestOneBit((int) Math.max(1, Math.min(16, bound / 16)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(
+                    maximumEntries == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, maximumEntries / count),
+                    maximumCharacters == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, maximumCharacters / count),
+                    (int) Math.min(1 << 20, Math.max(16, bound / count))
+            );
+        }
+    }
+
+    /**
+     * Create a new builder
+     * @return a new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Translate text to MiniMessage format using default options, or get the cached result
+     * @param text text to translate
+     * @return translated string
+     * @see MiniTranslator#DEFAULT_OPTIONS
+     */
+    public @NotNull String translate(@NotNull String text) {
+        return translate(DEFAULT_TRANSLATOR, text);
+    }
+
+    /**
+     * Translate text to MiniMessage format, or get the cached result
+     * @param translator translator to use
+     * @param text text to translate
+     * @return translated string
+     */
+    public @NotNull String translate(@NotNull Translator translator, @NotNull String text) {
+        Key key = new Key(translator, text);
+        Segment segment = segments[spread(key.hashCode()) & (segments.length - 1)];
+        String result = segment.get(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = translator.translate(text);
+        evictions.add(segment.put(key, result));
+        return result;
+    }
+
+    /**
+     * Get the amount of cached translations
+     * @return amount of cached translations
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Remove all the cached translations. The statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Get the statistics of this cache
+     * @return a snapshot of the statistics
+     */
+    public @NotNull Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A snapshot of the cache statistics
+     * @param hits amount of lookups that returned a cached translation
+     * @param misses amount of lookups that required translating
+     * @param evictions amount of cached translations replaced by other ones
+     */
+    public record Stats(long hits, long misses, long evictions) {
+        /**
+         * Get the ratio of lookups that returned a cached translation
+         * @return ratio from 0 to 1, or 1 if there were no lookups
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 1 : (double) hits / total;
+        }
+    }
+
+    private record Key(Translator translator, String text) {}
+
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Key, String> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+        private final long maximumEntries;
+        private final long maximumCharacters;
+        private long characters;
+
+        private Segment(long maximumEntries, long maximumCharacters, int expectedEntries) {
+            this.maximumEntries = maximumEntries;
+            this.maximumCharacters = maximumCharacters;
+            this.sketch = new FrequencySketch(expectedEntries);
+        }
+
+        private String get(Key key) {
+            lock.lock();
+            try {
+                sketch.increment(key.hashCode());
+                return map.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return amount of evicted translations
+         */
+        private int put(Key key, String value) {
+            long weight = weight(key, value);
+            if (weight > maximumCharacters) return 0;
+            lock.lock();
+            try {
+                if (map.containsKey(key)) return 0;
+                if (isFull(weight) && sketch.frequency(map.keySet().iterator().next().hashCode()) >= sketch.frequency(key.hashCode())) {
+                    return 0;
+                }
+                int evicted = 0;
+                Iterator<Map.Entry<Key, String>> iterator = map.entrySet().iterator();
+                while (isFull(weight)) {
+                    Map.Entry<Key, String> victim = iterator.next();
+                    characters -= weight(victim.getKey(), victim.getValue());
+                    iterator.remove();
+                    evicted++;
+                }
+                map.put(key, value);
+                characters += weight;
+                return evicted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isFull(long weight) {
+            return map.size() + 1 > maximumEntries || characters + weight > maximumCharacters;
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                map.clear();
+                characters = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static long weight(Key key, String value) {
+            return (long) key.text().length() + value.length();
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, which are halved every once in a while so old popularity fades away
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int expectedEntries) {
+            this.table = new long[Math.max(8, Integer.highestOneBit(expectedEntries - 1) << 1)];
+            this.sampleSize = 10 * expectedEntries;
+        }
+
+        private int frequency(int hash) {
+            hash = rehash(hash);
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int offset = (start + i) << 2;
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offset) & 0xF));
+            }
+            return frequency;
+        }
+
+        private void increment(int hash) {
+            hash = rehash(hash);
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = (start + i) << 2;
+                if (((table[index] >>> offset) & 0xF) != 0xF) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private static int rehash(int hash) {
+            hash *= 0x31848bab;
+            return hash ^ (hash >>> 14);
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+    }
+
+    /**
+     * A builder for {@link TranslationCache}. At least one of the bounds must be set.
+     */
+    public static final class Builder {
+        private long maximumEntries = Long.MAX_VALUE;
+        private long maximumCharacters = Long.MAX_VALUE;
+
+        private Builder() {}
+
+        /**
+         * Limit the amount of cached translations
+         * @param maximumEntries maximum amount of cached translations
+         * @return this builder
+         */
+        public @NotNull Builder maximumEntries(long maximumEntries) {
+            if (maximumEntries <= 0) throw new IllegalArgumentException("Maximum entries should be positive");
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Limit the total length of cached texts and their translations
+         * @param maximumCharacters maximum total length
+         * @return this builder
+         */
+        public @NotNull Builder maximumCharacters(long maximumCharacters) {
+            if (maximumCharacters <= 0) throw new IllegalArgumentException("Maximum characters should be positive");
+            this.maximumCharacters = maximumCharacters;
+            return this;
+        }
+
+        /**
+         * Build the cache
+         * @return a new empty cache
+         */
+        public @NotNull TranslationCache build() {
+            if (maximumEntries == Long.MAX_VALUE && maximumCharacters == Long.MAX_VALUE) {
+                throw new IllegalStateException("Either maximum entries or maximum characters should be set");
+            }
+            return new TranslationCache(maximumEntries, maximumCharacters);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the translation workload: calls, characters, codes by kind and latency.
+ * Translators only record to it if they were built with {@link Translator.Builder#metrics(TranslationMetrics)};
+ * the cached ones record to {@link #global()} when the {@code minitranslator.metrics} system property is true.
+ * Every part of a streamed text counts as a separate call.
+ */
+public final class TranslationMetrics {
+    /**
+     * Amount of latency histogram buckets, the bucket {@code i} counts calls that took less than {@code 2^i} nanoseconds
+     */
+    public static final int LATENCY_BUCKETS = 40;
+    private static final Option[] OPTIONS = Option.values();
+    private static final TranslationMetrics GLOBAL = Boolean.getBoolean("minitranslator.metrics") ? createGlobal() : null;
+
+    private final LongAdder[] profileCalls = new LongAdder[1 << OPTIONS.length];
+    private final LongAdder inputCharacters = new LongAdder();
+    private final LongAdder outputCharacters = new LongAdder();
+    private final LongAdder[] codes = new LongAdder[CodeKind.values().length];
+    private final LongAdder[] latency = new LongAdder[LATENCY_BUCKETS];
+
+    private TranslationMetrics() {
+        fill(profileCalls);
+        fill(codes);
+        fill(latency);
+    }
+
+    /**
+     * Create new metrics with all the counters at zero
+     * @return new metrics
+     */
+    public static @NotNull TranslationMetrics create() {
+        return new TranslationMetrics();
+    }
+
+    /**
+     * Get the metrics of the cached translators, also registered as {@code me.imdanix.text:type=TranslationMetrics,name=global}
+     * @return the global metrics, or null if the {@code minitranslator.metrics} system property is not true
+     */
+    public static @Nullable TranslationMetrics global() {
+        return GLOBAL;
+    }
+
+    private static TranslationMetrics createGlobal() {
+        TranslationMetrics metrics = new TranslationMetrics();
+        try {
+            metrics.register("global");
+        } catch (IllegalStateException ignored) {
+            // Another copy of the library is already registered, the metrics are still readable programmatically
+        }
+        return metrics;
+    }
+
+    private static void fill(LongAdder[] adders) {
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+    }
+
+    void record(int mask, int input, int output, int namedColors, int hexColors, int gradients, int formats, int resets, long nanos) {
+        profileCalls[mask].increment();
+        inputCharacters.add(input);
+        outputCharacters.add(output);
+        add(CodeKind.NAMED_COLOR, namedColors);
+        add(CodeKind.HEX_COLOR, hexColors);
+        add(CodeKind.GRADIENT, gradients);
+        add(CodeKind.FORMAT, formats);
+        add(CodeKind.RESET, resets);
+        latency[Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)))].increment();
+    }
+
+    private void add(CodeKind kind, int count) {
+        if (count != 0) codes[kind.ordinal()].add(count);
+    }
+
+    /**
+     * Get the amount of translations
+     * @return amount of calls
+     */
+    public long calls() {
+        long calls = 0;
+        for (LongAdder adder : profileCalls) {
+            calls += adder.sum();
+        }
+        return calls;
+    }
+
+    /**
+     * Get the total length of the translated texts
+     * @return amount of characters
+     */
+    public long inputCharacters() {
+        return inputCharacters.sum();
+    }
+
+    /**
+     * Get the total length of the translation results
+     * @return amount of characters
+     */
+    public long outputCharacters() {
+        return outputCharacters.sum();
+    }
+
+    /**
+     * Get the amount of translated codes of the kind
+     * @param kind kind of codes
+     * @return amount of codes
+     */
+    public long codes(@NotNull CodeKind kind) {
+        return codes[kind.ordinal()].sum();
+    }
+
+    /**
+     * Get the latency histogram
+     * @return a new array of {@link #LATENCY_BUCKETS} counts, the element {@code i} counts calls that took
+     * from {@code 2^(i-1)} to {@code 2^i} nanoseconds
+     */
+    public long @NotNull [] latencyHistogram() {
+        long[] histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = latency[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Get an upper bound of the latency percentile
+     * @param percentile percentile from 0 to 1, e.g. 0.99
+     * @return the upper bound of the histogram bucket in nanoseconds, or 0 if nothing was recorded
+     */
+    public long latencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) throw new IllegalArgumentException("Percentile should be from 0 to 1");
+        long[] histogram = latencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(percentile * total);
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            rank -= histogram[i];
+            if (rank <= 0) return 1L << i;
+        }
+        return 1L << (LATENCY_BUCKETS - 1);
+    }
+
+    /**
+     * Get the amount of translations by the options used
+     * @return an unmodifiable map of the option sets with at least one call
+     */
+    public @NotNull Map<Set<Option>, Long> profileCalls() {
+        Map<Set<Option>, Long> calls = new LinkedHashMap<>();
+        for (int mask = 0; mask < profileCalls.length; mask++) {
+            long sum = profileCalls[mask].sum();
+            if (sum != 0) calls.put(options(mask), sum);
+        }
+        return Collections.unmodifiableMap(calls);
+    }
+
+    private static Set<Option> options(int mask) {
+        EnumSet<Option> options = EnumSet.noneOf(Option.class);
+        for (Option option : Option.values()) {
+            if ((mask & (1 << option.ordinal())) != 0) options.add(option);
+        }
+        return Collections.unmodifiableSet(options);
+    }
+
+    /**
+     * Set all the counters to zero. Translations that happen at the same time may be partially counted.
+     */
+    public void reset() {
+        for (LongAdder adder : profileCalls) adder.reset();
+        for (LongAdder adder : codes) adder.reset();
+        for (LongAdder adder : latency) adder.reset();
+        inputCharacters.reset();
+        outputCharacters.reset();
+    }
+
+    /**
+     * Register these metrics in the platform MBean server as {@code me.imdanix.text:type=TranslationMetrics,name=<name>}
+     * @param name name to register with
+     * @return the name of the registered MBean
+     * @throws IllegalStateException if there's already an MBean with this name, or it can't be registered
+     */
+    public @NotNull ObjectName register(@NotNull String name) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = objectName(name);
+            server.registerMBean(new Bean(), objectName);
+            return objectName;
+        } catch (InstanceAlreadyExistsException exception) {
+            throw new IllegalStateException("Metrics named '" + name + "' are already registered", exception);
+        } catch (JMException exception) {
+            throw new IllegalStateException("Can't register metrics named '" + name + "'", exception);
+        }
+    }
+
+    /**
+     * Unregister the metrics with the name from the platform MBean server, if there are any
+     * @param name name the metrics were registered with
+     */
+    public static void unregister(@NotNull String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+        } catch (InstanceNotFoundException ignored) {
+            // Nothing to unregister
+        } catch (JMException exception) {
+            throw new IllegalStateException("Can't unregister metrics named '" + name + "'", exception);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("me.imdanix.text:type=TranslationMetrics,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Kinds of translated codes
+     */
+    public enum CodeKind {
+        /**
+         * {@code &a}
+         */
+        NAMED_COLOR,
+        /**
+         * {@code &#123456}, {@code &x&1&2&3&4&5&6} and standalone {@code #123456}
+         */
+        HEX_COLOR,
+        /**
+         * {@code &@red-blue@}
+         */
+        GRADIENT,
+        /**
+         * {@code &l}
+         */
+        FORMAT,
+        /**
+         * {@code &r}
+         */
+        RESET
+    }
+
+    private final class Bean implements TranslationMetricsMXBean {
+        @Override
+        public long getCalls() {
+            return calls();
+        }
+
+        @Override
+        public long getInputCharacters() {
+            return inputCharacters();
+        }
+
+        @Override
+        public long getOutputCharacters() {
+            return outputCharacters();
+        }
+
+        @Override
+        public Map<String, Long> getCodes() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (CodeKind kind : CodeKind.values()) {
+                result.put(kind.name(), codes(kind));
+            }
+            return result;
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            return latencyHistogram();
+        }
+
+        @Override
+        public long getLatencyP50() {
+            return latencyPercentile(0.5);
+        }
+
+        @Override
+        public long getLatencyP99() {
+            return latencyPercentile(0.99);
+        }
+
+        @Override
+        public Map<String, Long> getProfileCalls() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            profileCalls().forEach((options, calls) -> result.put(options.toString(), calls));
+            return result;
+        }
+
+        @Override
+        public void reset() {
+            TranslationMetrics.this.reset();
+        }
+    }
+}
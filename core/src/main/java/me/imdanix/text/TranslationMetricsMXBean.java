@@ -0,0 +1,78 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link TranslationMetrics}
+ */
+public interface TranslationMetricsMXBean {
+    /**
+     * @return amount of translations
+     */
+    long getCalls();
+
+    /**
+     * @return total length of the translated texts
+     */
+    long getInputCharacters();
+
+    /**
+     * @return total length of the translation results
+     */
+    long getOutputCharacters();
+
+    /**
+     * @return amount of translated codes by {@link TranslationMetrics.CodeKind} name
+     */
+    Map<String, Long> getCodes();
+
+    /**
+     * @return calls by latency, see {@link TranslationMetrics#latencyHistogram()}
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * @return upper bound of the median latency in nanoseconds
+     */
+    long getLatencyP50();
+
+    /**
+     * @return upper bound of the 99th percentile latency in nanoseconds
+     */
+    long getLatencyP99();
+
+    /**
+     * @return amount of translations by the options used
+     */
+    Map<String, Long> getProfileCalls();
+
+    /**
+     * Set all the counters to zero
+     */
+    void reset();
+}
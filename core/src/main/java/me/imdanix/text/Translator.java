@@ -0,0 +1,1267 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.util.*;
+
+/**
+ * An immutable and thread-safe translator with a fixed set of {@link Option}s.
+ * The options are resolved once, so it's preferred to keep the instance around instead of passing the options every time.
+ */
+public final class Translator {
+    private static final Option[] OPTIONS = Option.values();
+    // Translators are immutable, so racy publication of the cached instances is fine
+    private static final Translator[] CACHE = new Translator[1 << OPTIONS.length];
+    // Longest valid stop is a hex color, named ones with no underscores are even shorter
+    private static final int MAX_GRADIENT_STOP_LENGTH = 7;
+    private static final int TABLE_SIZE = 128;
+    // Sorted for binary search, so the stops are checked in place
+    private static final String[] COLOR_NAMES = {
+            "aqua", "black", "blue", "dark_aqua", "dark_blue", "dark_gray", "dark_green", "dark_purple",
+            "dark_red", "gold", "gray", "green", "light_purple", "red", "white", "yellow"
+    };
+    private static final int[] COLOR_VALUES = {
+            0x55FFFF, 0x000000, 0x5555FF, 0x00AAAA, 0x0000AA, 0x555555, 0x00AA00, 0xAA00AA,
+            0xAA0000, 0xFFAA00, 0xAAAAAA, 0x55FF55, 0xFF55FF, 0xFF5555, 0xFFFFFF, 0xFFFF55
+    };
+    // Not a lambda, so the first translator doesn't have to bootstrap it
+    private static final ThreadLocal<State> STATES = new ThreadLocal<>() {
+        @Override
+        protected State initialValue() {
+            return new State();
+        }
+    };
+
+    // Open tags are packed into longs: a symbol of the lookup table, six ASCII chars of a hex color, or a gradient
+    private static final int ENTRY_KIND_SHIFT = 56;
+    private static final long HEX_ENTRY = 1L << ENTRY_KIND_SHIFT;
+    private static final long GRADIENT_ENTRY = 2L << ENTRY_KIND_SHIFT;
+    private static final long FLAT_GRADIENT_ENTRY = 3L << ENTRY_KIND_SHIFT;
+
+    // Actions for a symbol after a marker
+    static final byte TEXT = 0;
+    static final byte ESCAPE = 1;
+    static final byte COLOR = 2;
+    static final byte HEX_COLOR = 3;
+    static final byte LEGACY_HEX_COLOR = 4;
+    static final byte GRADIENT = 5;
+    static final byte RESET = 6;
+    static final byte FORMAT = 7;
+
+    private final int mask;
+    final boolean color;
+    final boolean hexColorStandalone;
+    final boolean format;
+    final boolean reset;
+    final boolean gradient;
+    final boolean fastReset;
+    final boolean closeColors;
+    final boolean doubleToEscape;
+    private final boolean minify;
+    final boolean flattenGradient;
+    final String colorTagStart;
+    // Indexed by ASCII symbols, with disabled options already resolved to TEXT
+    private final byte[] actions = new byte[TABLE_SIZE];
+    private final String[] names = new String[TABLE_SIZE];
+    private final String[] openingTags = new String[TABLE_SIZE];
+    private final String[] closingTags = new String[TABLE_SIZE];
+    private final @Nullable TranslationMetrics metrics;
+    private final boolean customCodes;
+    // Custom tags may have any chars, so the UTF-8 translation can't always write them byte by byte
+    final boolean asciiTags;
+
+    private Translator(int mask, @Nullable TranslationMetrics metrics) {
+        this(mask, metrics, Map.of());
+    }
+
+    private Translator(int mask, @Nullable TranslationMetrics metrics, Map<Character, CustomCode> customCodes) {
+        this.mask = mask;
+        this.metrics = metrics;
+        this.color = has(mask, Option.COLOR);
+        this.hexColorStandalone = has(mask, Option.HEX_COLOR_STANDALONE);
+        this.format = has(mask, Option.FORMAT);
+        this.reset = has(mask, Option.RESET);
+        this.gradient = has(mask, Option.GRADIENT);
+        this.fastReset = has(mask, Option.FAST_RESET);
+        this.closeColors = has(mask, Option.CLOSE_COLORS);
+        this.doubleToEscape = has(mask, Option.DOUBLE_TO_ESCAPE);
+        this.minify = has(mask, Option.MINIFY);
+        this.flattenGradient = has(mask, Option.FLATTEN_GRADIENT);
+        this.colorTagStart = has(mask, Option.VERBOSE_HEX_COLOR) ? "color:#" : "#";
+        for (char ch = 0; ch < TABLE_SIZE; ch++) {
+            byte action = actionByChar(ch);
+            actions[ch] = action;
+            if (action == COLOR || action == FORMAT) {
+                String name = tagByChar(ch);
+                names[ch] = name;
+                // Not '+', so the first translator doesn't have to bootstrap the string concatenation
+                openingTags[ch] = "<".concat(name).concat(">");
+                closingTags[ch] = "</".concat(name).concat(">");
+            } else if (action == RESET) {
+                openingTags[ch] = "<reset>";
+            }
+        }
+        // Custom codes go to the same tables, so they're as cheap as the built-in ones
+        this.customCodes = !customCodes.isEmpty();
+        boolean asciiTags = true;
+        for (Map.Entry<Character, CustomCode> entry : customCodes.entrySet()) {
+            char ch = entry.getKey();
+            CustomCode code = entry.getValue();
+            asciiTags &= isAscii(code.opening()) && isAscii(code.closing());
+            actions[ch] = switch (code.behavior()) {
+                case COLOR -> COLOR;
+                case FORMAT -> FORMAT;
+                case RESET -> RESET;
+            };
+            names[ch] = null;
+            openingTags[ch] = code.opening();
+            closingTags[ch] = code.closing();
+        }
+        this.asciiTags = asciiTags;
+    }
+
+    private static boolean isAscii(String tag) {
+        for (int i = 0; i < tag.length(); i++) {
+            if (tag.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get a translator for the provided options
+     * @param options options to use
+     * @return cached translator instance
+     */
+    public static @NotNull Translator of(@NotNull Option @NotNull ... options) {
+        int mask = 0;
+        for (Option option : options) {
+            mask |= bit(option);
+        }
+        return ofMask(mask);
+    }
+
+    /**
+     * Get a translator for the provided options
+     * @param options options to use
+     * @return cached translator instance
+     */
+    public static @NotNull Translator of(@NotNull Collection<@NotNull Option> options) {
+        int mask = 0;
+        for (Option option : options) {
+            mask |= bit(option);
+        }
+        return ofMask(mask);
+    }
+
+    /**
+     * Create a new builder with no options enabled
+     * @return a new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    static Translator ofMask(int mask) {
+        Translator translator = CACHE[mask];
+        if (translator == null) {
+            translator = new Translator(mask, TranslationMetrics.global());
+            CACHE[mask] = translator;
+        }
+        return translator;
+    }
+
+    private static int bit(Option option) {
+        return 1 << option.ordinal();
+    }
+
+    private static boolean has(int mask, Option option) {
+        return (mask & bit(option)) != 0;
+    }
+
+    /**
+     * Check if the option is enabled for this translator
+     * @param option option to check
+     * @return true if the option is enabled
+     */
+    public boolean has(@NotNull Option option) {
+        return has(mask, option);
+    }
+
+    /**
+     * Check if the translator was built with custom codes
+     * @return true if there are custom codes
+     * @see Builder#code(char, CodeBehavior, String, String)
+     */
+    public boolean hasCustomCodes() {
+        return customCodes;
+    }
+
+    /**
+     * Get the metrics this translator records to
+     * @return the metrics, or null if it doesn't record any
+     */
+    public @Nullable TranslationMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the options of this translator
+     * @return an unmodifiable set of enabled options
+     */
+    public @NotNull Set<Option> options() {
+        EnumSet<Option> options = EnumSet.noneOf(Option.class);
+        for (Option option : OPTIONS) {
+            if (has(mask, option)) options.add(option);
+        }
+        return Collections.unmodifiableSet(options);
+    }
+
+    /**
+     * Translate text to MiniMessage format
+     * @param text text to translate
+     * @return translated string, or the same instance if there was nothing to translate
+     */
+    public @NotNull String translate(@NotNull String text) {
+        if (!hasCodes(text)) {
+            recordPlain(text.length());
+            return text;
+        }
+        return translate(text, 0, text.length(), new StringBuilder(text.length() + 16)).toString();
+    }
+
+    /**
+     * Translate text to MiniMessage format, cutting it so it renders no more than the provided number of chars.
+     * If it's cut, all the tags still open are closed, so more text can be added after it.
+     * @param text text to translate
+     * @param maxVisible maximum number of visible chars
+     * @return translated string, or the same instance if there was nothing to translate or cut
+     * @throws IllegalArgumentException if the maximum is negative
+     * @see #visibleLength(CharSequence)
+     */
+    public @NotNull String translate(@NotNull String text, int maxVisible) {
+        if (maxVisible < 0) {
+            throw new IllegalArgumentException("Maximum number of visible chars can't be negative, got " + maxVisible);
+        }
+        int end = VisibleText.end(this, text, maxVisible);
+        if (end == text.length()) {
+            return translate(text);
+        }
+        StringBuilder builder = new StringBuilder(end + 16);
+        State state = acquireState();
+        state.closeColors = true;
+        try {
+            translate(text, 0, end, builder, state, true);
+            if (minify) {
+                state.minifier.closeAll(builder);
+            } else {
+                closeAll(state, builder);
+            }
+        } finally {
+            state.reset();
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Count the chars the translated text renders, with nothing written.
+     * Tags that are already in the text are counted as text, and chars outside the BMP as two chars.
+     * @param text text to measure
+     * @return the number of visible chars
+     */
+    public int visibleLength(@NotNull CharSequence text) {
+        return VisibleText.length(this, text);
+    }
+
+    /**
+     * Translate UTF-8 text to MiniMessage format in UTF-8.
+     * The bytes are read as chars one by one rather than decoded, unless the translator flattens gradients
+     * or has custom tags that aren't ASCII; then the text with codes is decoded and encoded again.
+     * @param utf8 text to translate
+     * @return a new array with the translated text
+     */
+    public byte @NotNull [] translate(byte @NotNull [] utf8) {
+        return translate(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Translate a part of UTF-8 text to MiniMessage format in UTF-8, reading the bytes as {@link #translate(byte[])} does
+     * @param utf8 text to translate
+     * @param offset the start index of the part
+     * @param length the length of the part
+     * @return a new array with the translated text
+     */
+    public byte @NotNull [] translate(byte @NotNull [] utf8, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return Utf8Translation.translate(this, utf8, offset, length);
+    }
+
+    /**
+     * Translate the remaining UTF-8 text of the buffer to MiniMessage format in UTF-8, reading the bytes as {@link #translate(byte[])} does.
+     * Works with direct buffers too, though text with codes is still copied to the heap to be translated.
+     * @param in buffer to read the text from
+     * @param out buffer to write the translated text to
+     * @return {@link CoderResult#UNDERFLOW} if the whole text was translated,
+     *         or {@link CoderResult#OVERFLOW} if there's not enough space in the output buffer;
+     *         then neither of the buffers is changed, so the call can be repeated with a bigger one
+     */
+    public @NotNull CoderResult translate(@NotNull ByteBuffer in, @NotNull ByteBuffer out) {
+        if (in == out) {
+            throw new IllegalArgumentException("Can't translate the buffer into itself");
+        }
+        return Utf8Translation.translate(this, in, out);
+    }
+
+    void recordPlain(int length) {
+        if (metrics != null) metrics.record(mask, length, length, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Check if the text may have anything to translate with the options of this translator
+     * @param text text to check
+     * @return false if the text would be translated to itself
+     */
+    boolean hasCodes(String text) {
+        return text.indexOf('&') != -1 || text.indexOf('§') != -1 || (hexColorStandalone && text.indexOf('#') != -1);
+    }
+
+    /**
+     * Translate texts to MiniMessage format, in parallel if there are enough of them
+     * @param texts texts to translate
+     * @return an unmodifiable list of translated strings in the same order
+     * @see BatchTranslator
+     */
+    public @NotNull List<String> translateAll(@NotNull List<? extends @NotNull CharSequence> texts) {
+        return BatchTranslator.of(this).translateAll(texts);
+    }
+
+    /**
+     * Translate texts to MiniMessage format, in parallel if there are enough of them
+     * @param texts texts to translate
+     * @return a new array of translated strings in the same order
+     * @see BatchTranslator
+     */
+    public @NotNull String @NotNull [] translateAll(@NotNull String @NotNull [] texts) {
+        return BatchTranslator.of(this).translateAll(texts);
+    }
+
+    /**
+     * Translate text to MiniMessage format, appending the result to the provided builder
+     * @param text text to translate
+     * @param builder builder to append the result to, must not be the text itself
+     * @return the provided builder
+     */
+    public @NotNull StringBuilder translate(@NotNull CharSequence text, @NotNull StringBuilder builder) {
+        return translate(text, 0, text.length(), builder);
+    }
+
+    /**
+     * Translate a part of text to MiniMessage format, appending the result to the provided appendable
+     * @param text text to translate
+     * @param start the start index of the part, inclusive
+     * @param end the end index of the part, exclusive
+     * @param out appendable to append the result to, must not be the text itself
+     * @return the provided appendable
+     * @throws IOException if the appendable throws one
+     */
+    public <A extends Appendable> @NotNull A translate(@NotNull CharSequence text, int start, int end, @NotNull A out) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            translate(text, start, end, builder);
+        } else {
+            out.append(translate(text, start, end, new StringBuilder(end - start + 16)));
+        }
+        return out;
+    }
+
+    /**
+     * Translate a part of text to MiniMessage format, appending the result to the provided builder
+     * @param text text to translate
+     * @param start the start index of the part, inclusive
+     * @param end the end index of the part, exclusive
+     * @param builder builder to append the result to, must not be the text itself
+     * @return the provided builder
+     */
+    public @NotNull StringBuilder translate(@NotNull CharSequence text, int start, int end, @NotNull StringBuilder builder) {
+        Objects.checkFromToIndex(start, end, text.length());
+        if (text == builder) {
+            throw new IllegalArgumentException("Can't translate the builder into itself");
+        }
+        State state = acquireState();
+        try {
+            translate(text, start, end, builder, state, true);
+        } finally {
+            state.reset();
+        }
+        return builder;
+    }
+
+    private static State acquireState() {
+        State state = STATES.get();
+        if (state.inUse) {
+            // The text is translating something itself while being read
+            state = new State();
+        }
+        state.inUse = true;
+        return state;
+    }
+
+    /**
+     * Translate a part of text, continuing from the provided state.
+     * Unless it's the last part, stops right before a code that may continue in the next part.
+     * @return the index the translation stopped at; the rest should be translated with the next part
+     */
+    int translate(CharSequence text, int start, int end, StringBuilder builder, State state, boolean last) {
+        return translate(text, start, end, builder, state, last, last);
+    }
+
+    /**
+     * Translate a part of text, continuing from the provided state
+     * @param close whether to close the colors in the end, if {@link Option#CLOSE_COLORS} is enabled
+     * @return the index the translation stopped at
+     * @see #translate(CharSequence, int, int, StringBuilder, State, boolean)
+     */
+    int translate(CharSequence text, int start, int end, StringBuilder builder, State state, boolean last, boolean close) {
+        if (minify) {
+            return minify(text, start, end, builder, state, last);
+        }
+        final TranslationMetrics metrics = this.metrics;
+        final long started = metrics == null ? 0 : System.nanoTime();
+        final int builderStart = builder.length();
+        int namedColors = 0, hexColors = 0, gradients = 0, formats = 0, resets = 0;
+        boolean hadColor = state.hadColor;
+        int from = start;
+        int index = start;
+        // String.indexOf is intrinsic and compares many chars at once, so it's used to skip the text with no codes
+        final String string = text instanceof String str ? str : null;
+        int nextAmpersand = -1;
+        int nextSection = -1;
+        int nextHash = hexColorStandalone ? -1 : end;
+
+        scan:
+        for (; index < end; index++) {
+            char ch = text.charAt(index);
+            // Codes usually go one after another, so there's no point to search when already standing on one
+            if (string != null && ch != '&' && ch != '§' && ch != '#') {
+                if (nextAmpersand < index) nextAmpersand = indexOf(string, '&', index, end);
+                if (nextSection < index) nextSection = indexOf(string, '§', index, end);
+                if (nextHash < index) nextHash = indexOf(string, '#', index, end);
+                index = Math.min(nextAmpersand, Math.min(nextSection, nextHash));
+                if (index == end) break;
+                ch = text.charAt(index);
+            }
+            if (ch == '#') {
+                if (!hexColorStandalone) continue;
+                if (!last && index + 7 >= end) break;
+                if (isHexColorStandalone(text, index, end, index == start ? state.previous : text.charAt(index - 1))) {
+                    builder.append(text, from, index).append('<').append(colorTagStart).append(text, index + 1, index + 7).append('>');
+                    if (state.closeColors) {
+                        // Standalone colors are left open, but a cut text has to close them in order with the rest
+                        long entry = 0;
+                        for (int i = index + 1; i < index + 7; i++) {
+                            entry = (entry << 8) | text.charAt(i);
+                        }
+                        state.push(HEX_ENTRY | entry);
+                    }
+                    hexColors++;
+                    index += 6;
+                    from = index + 1;
+                }
+                continue;
+            } else if (!isMarker(ch)) {
+                continue;
+            }
+
+            final int marker = index;
+            if (++index >= end) {
+                if (!last) {
+                    index = marker;
+                    break;
+                }
+                builder.append(text, from, marker).append('&');
+                from = end;
+                break;
+            }
+
+            char symbol = text.charAt(index);
+            switch (action(symbol)) {
+                case ESCAPE -> {
+                    builder.append(text, from, marker).append(doubleToEscape ? "&" : "&&");
+                    from = index + 1;
+                }
+                case COLOR -> {
+                    builder.append(text, from, marker);
+                    from = index + 1;
+                    handleClosing(state, builder, hadColor);
+                    hadColor = true;
+                    state.push(symbol);
+                    builder.append(openingTags[symbol]);
+                    namedColors++;
+                }
+                case FORMAT -> {
+                    builder.append(text, from, marker);
+                    from = index + 1;
+                    state.push(symbol);
+                    builder.append(openingTags[symbol]);
+                    formats++;
+                }
+                case RESET -> {
+                    builder.append(text, from, marker).append(openingTags[symbol]);
+                    from = index + 1;
+                    state.size = 0;
+                    hadColor = false;
+                    resets++;
+                }
+                case HEX_COLOR, LEGACY_HEX_COLOR -> {
+                    boolean legacy = symbol != '#';
+                    if (!last && index + (legacy ? 13 : 7) > end) {
+                        index = marker;
+                        break scan;
+                    }
+                    builder.append(text, from, marker);
+                    from = index + 1;
+                    int hexEnd = legacy ? legacyHexColorEnd(text, index + 1, end) : hexColorEnd(text, index + 1, end);
+                    if (hexEnd == -1) {
+                        builder.append('&').append(symbol);
+                        continue;
+                    }
+                    handleClosing(state, builder, hadColor);
+                    hadColor = true;
+                    builder.append('<').append(colorTagStart);
+                    long entry = 0;
+                    for (int i = legacy ? index + 2 : index + 1, step = legacy ? 2 : 1; i < hexEnd; i += step) {
+                        char digit = text.charAt(i);
+                        builder.append(digit);
+                        entry = (entry << 8) | digit;
+                    }
+                    state.push(HEX_ENTRY | entry);
+                    builder.append('>');
+                    hexColors++;
+                    index = hexEnd - 1;
+                    from = hexEnd;
+                }
+                case GRADIENT -> {
+                    int gradientEnd = gradientEnd(text, index + 1, end);
+                    if (gradientEnd == end) {
+                        if (!last) {
+                            index = marker;
+                            break scan;
+                        }
+                        gradientEnd = -1;
+                    }
+                    long span = 0;
+                    if (flattenGradient && gradientEnd != -1) {
+                        // The colors depend on the number of chars, so the whole gradient has to be known
+                        span = flatGradient(text, gradientEnd + 1, end, last, null, builder, state);
+                        if (span == -1) {
+                            index = marker;
+                            break scan;
+                        }
+                    }
+                    builder.append(text, from, marker);
+                    from = index + 1;
+                    if (gradientEnd == -1) {
+                        builder.append("&@");
+                        continue;
+                    }
+                    handleClosing(state, builder, hadColor);
+                    hadColor = true;
+                    if (flattenGradient) {
+                        state.push(FLAT_GRADIENT_ENTRY);
+                        String[] colors = GradientColors.of(text, index + 1, gradientEnd, (int) (span >>> 32));
+                        int spanEnd = (int) flatGradient(text, gradientEnd + 1, end, last, colors, builder, state);
+                        formats += state.size - 1;
+                        gradients++;
+                        index = spanEnd - 1;
+                        from = spanEnd;
+                        continue;
+                    }
+                    builder.append("<gradient");
+                    for (int stop = index + 1, stopEnd; stop < gradientEnd; stop = stopEnd + 1) {
+                        stopEnd = gradientStopEnd(text, stop, gradientEnd);
+                        builder.append(':');
+                        if (stopEnd - stop == 1) {
+                            builder.append(colorByChar(text.charAt(stop)));
+                        } else {
+                            builder.append(text, stop, stopEnd);
+                        }
+                    }
+                    builder.append('>');
+                    state.push(GRADIENT_ENTRY);
+                    gradients++;
+                    index = gradientEnd;
+                    from = gradientEnd + 1;
+                }
+                default -> {
+                    builder.append(text, from, marker).append('&').append(symbol);
+                    from = index + 1;
+                }
+            }
+        }
+        if (from < index) {
+            builder.append(text, from, index);
+        }
+        if (index > start) {
+            state.previous = text.charAt(index - 1);
+        }
+        state.hadColor = hadColor;
+        if (close && closeColors) {
+            closeAll(state, builder);
+        }
+        if (metrics != null) {
+            metrics.record(mask, index - start, builder.length() - builderStart, namedColors, hexColors, gradients, formats, resets, System.nanoTime() - started);
+        }
+        return index;
+    }
+
+    private int minify(CharSequence text, int start, int end, StringBuilder builder, State state, boolean last) {
+        final TranslationMetrics metrics = this.metrics;
+        final long started = metrics == null ? 0 : System.nanoTime();
+        final int builderStart = builder.length();
+        Minifier minifier = state.minifier;
+        if (minifier == null) {
+            minifier = new Minifier(this);
+            state.minifier = minifier;
+        }
+        int index = minifier.translate(text, start, end, builder, last);
+        if (metrics != null) {
+            CodeWalker walker = minifier.walker;
+            metrics.record(mask, index - start, builder.length() - builderStart, walker.namedColors, walker.hexColors,
+                    walker.gradients, walker.formats, walker.resets, System.nanoTime() - started);
+        }
+        return index;
+    }
+
+    /**
+     * @return the index of the char, or the until index if there's none before it
+     */
+    private static int indexOf(String text, char ch, int from, int until) {
+        int index = text.indexOf(ch, from);
+        return index == -1 || index > until ? until : index;
+    }
+
+    private void handleClosing(State state, StringBuilder builder, boolean hadColor) {
+        if (fastReset && state.size > 1) {
+            builder.append("<reset>");
+        } else for (int i = state.size - 1, until = (hadColor && !closeColors && !state.closeColors) ? 1 : 0; i >= until; i--) {
+            appendClosing(builder, state.order[i]);
+        }
+        state.size = 0;
+    }
+
+    private void closeAll(State state, StringBuilder builder) {
+        for (int i = state.size - 1; i >= 0; i--) {
+            appendClosing(builder, state.order[i]);
+        }
+        state.size = 0;
+    }
+
+    private void appendClosing(StringBuilder builder, long entry) {
+        switch ((int) (entry >>> ENTRY_KIND_SHIFT)) {
+            case 0 -> builder.append(closingTags[(int) entry]);
+            case 1 -> {
+                builder.append("</").append(colorTagStart);
+                for (int shift = 40; shift >= 0; shift -= 8) {
+                    builder.append((char) ((entry >>> shift) & 0xFF));
+                }
+                builder.append('>');
+            }
+            case 2 -> builder.append("</gradient>");
+            default -> {
+                // Every char of a flattened gradient closes its own color
+            }
+        }
+    }
+
+    /**
+     * Walk the text a flattened gradient spreads over as the translation does.
+     * Every visible char up to the next color or reset is written in its own color, and the formats inside are opened as usual.
+     * Unless it's closed there, MiniMessage would spread the gradient over the text after it too, until it's reset.
+     * @param colors hex digits of the color for each char, or null to only count the chars the colors are spread over
+     * @return the number of chars, counting surrogate pairs as one, in the upper half and the index of the next color or reset in the lower one,
+     *         or -1 if the end of a part that's not the last is reached before they're known
+     */
+    private long flatGradient(CharSequence text, int from, int end, boolean last, String @Nullable [] colors, StringBuilder builder, State state) {
+        final boolean write = colors != null;
+        int count = 0;
+        char previous = 0;
+        // A color inside the gradient takes over the chars after it, but they're still counted
+        boolean covered = false;
+        // The number of open tags, for the codes that would reset them
+        int open = 1;
+        int index = from;
+        for (; index < end; index++) {
+            char ch = text.charAt(index);
+            if (ch == '#' && hexColorStandalone) {
+                if (!last && index + 7 >= end) return -1;
+                if (isHexColorStandalone(text, index, end, text.charAt(index - 1))) {
+                    if (write) {
+                        closeFlat(builder, colors, count, previous, covered);
+                        builder.append('<').append(colorTagStart).append(text, index + 1, index + 7).append('>');
+                    }
+                    previous = 0;
+                    covered = true;
+                    index += 6;
+                    continue;
+                }
+            } else if (isMarker(ch)) {
+                if (index + 1 >= end) {
+                    if (!last) return -1;
+                    count = flatChar(builder, '&', previous, count, colors, covered);
+                    previous = '&';
+                    continue;
+                }
+                int symbolIndex = index + 1;
+                char symbol = text.charAt(symbolIndex);
+                byte action = action(symbol);
+                int codeEnd = symbolIndex;
+                switch (action) {
+                    case ESCAPE -> {
+                        count = flatChar(builder, '&', previous, count, colors, covered);
+                        if (!doubleToEscape) count = flatChar(builder, '&', '&', count, colors, covered);
+                        previous = '&';
+                        index = symbolIndex;
+                        continue;
+                    }
+                    case COLOR, RESET -> {}
+                    case FORMAT -> {
+                        if (write) {
+                            closeFlat(builder, colors, count, previous, covered);
+                            state.push(symbol);
+                            builder.append(openingTags[symbol]);
+                        }
+                        previous = 0;
+                        open++;
+                        index = symbolIndex;
+                        continue;
+                    }
+                    case HEX_COLOR, LEGACY_HEX_COLOR -> {
+                        boolean legacy = symbol != '#';
+                        if (!last && symbolIndex + (legacy ? 13 : 7) > end) return -1;
+                        int hexEnd = legacy ? legacyHexColorEnd(text, symbolIndex + 1, end) : hexColorEnd(text, symbolIndex + 1, end);
+                        if (hexEnd == -1) {
+                            count = flatChar(builder, '&', previous, count, colors, covered);
+                            count = flatChar(builder, symbol, '&', count, colors, covered);
+                            previous = symbol;
+                            index = symbolIndex;
+                            continue;
+                        }
+                        codeEnd = hexEnd - 1;
+                    }
+                    case GRADIENT -> {
+                        int gradientEnd = gradientEnd(text, symbolIndex + 1, end);
+                        if (gradientEnd == end && !last) return -1;
+                        if (gradientEnd == -1 || gradientEnd == end) {
+                            count = flatChar(builder, '&', previous, count, colors, covered);
+                            count = flatChar(builder, '@', '&', count, colors, covered);
+                            previous = '@';
+                            index = symbolIndex;
+                            continue;
+                        }
+                        codeEnd = gradientEnd;
+                    }
+                    default -> {
+                        count = flatChar(builder, '&', previous, count, colors, covered);
+                        count = flatChar(builder, symbol, '&', count, colors, covered);
+                        previous = symbol;
+                        index = symbolIndex;
+                        continue;
+                    }
+                }
+                // A color or a reset, the written part of the gradient ends here
+                if (write) break;
+                if (action == RESET || closeColors || (fastReset && open > 1)) {
+                    return (long) count << 32 | index;
+                }
+                // The previous colors are left open, so the gradient goes on
+                closeFlat(builder, colors, count, previous, covered);
+                previous = 0;
+                covered = true;
+                open = 1;
+                index = codeEnd;
+                continue;
+            }
+            count = flatChar(builder, ch, previous, count, colors, covered);
+            previous = ch;
+        }
+        if (write) {
+            closeFlat(builder, colors, count, previous, covered);
+        } else if (!last) {
+            return -1;
+        }
+        return (long) count << 32 | index;
+    }
+
+    /**
+     * Write a visible char of a flattened gradient, in the color of its position unless it's the second char of a surrogate pair
+     * @return the number of chars so far
+     */
+    private int flatChar(StringBuilder builder, char ch, char previous, int count, String @Nullable [] colors, boolean covered) {
+        boolean pair = Character.isLowSurrogate(ch) && Character.isHighSurrogate(previous);
+        if (!pair) {
+            closeFlat(builder, colors, count, previous, covered);
+            count++;
+            if (colors != null && !covered) builder.append('<').append(colorTagStart).append(colors[count - 1]).append('>');
+        }
+        if (colors != null) {
+            builder.append(ch);
+            if (!covered && !Character.isHighSurrogate(ch)) {
+                builder.append("</").append(colorTagStart).append(colors[count - 1]).append('>');
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Close the color of a high surrogate that's not followed by a low one
+     */
+    private void closeFlat(StringBuilder builder, String @Nullable [] colors, int count, char previous, boolean covered) {
+        if (colors != null && !covered && Character.isHighSurrogate(previous)) {
+            builder.append("</").append(colorTagStart).append(colors[count - 1]).append('>');
+        }
+    }
+
+    /**
+     * Get the action for a symbol after a marker
+     * @return one of the action constants, {@link #TEXT} if it's not a code with the options of this translator
+     */
+    byte action(char symbol) {
+        return symbol < TABLE_SIZE ? actions[symbol] : symbol == '§' ? ESCAPE : TEXT;
+    }
+
+    /**
+     * Get the tag name for a {@link #COLOR} or {@link #FORMAT} symbol
+     */
+    String name(char symbol) {
+        return names[symbol];
+    }
+
+    private byte actionByChar(char ch) {
+        if (isMarker(ch)) return ESCAPE;
+        String tag = tagByChar(ch);
+        if (tag == null) return TEXT;
+        return switch (tag) {
+            case "hex_color" -> ch == '#' ? HEX_COLOR : LEGACY_HEX_COLOR;
+            case "gradient" -> GRADIENT;
+            case "reset" -> RESET;
+            case "b", "u", "st", "i", "obf" -> FORMAT;
+            default -> COLOR;
+        };
+    }
+
+    private @Nullable String tagByChar(char ch) {
+        if (isHexDigit(ch)) {
+            if (!color) return null;
+            return colorByChar(ch);
+        } else if (isHexPrefix(ch)) {
+            if (!color) return null;
+            return "hex_color";
+        } else if (isFormatChar(ch)) {
+            if (!format) return null;
+            return switch (ch) {
+                case 'k', 'K' -> "obf";
+                case 'l', 'L' -> "b";
+                case 'm', 'M' -> "st";
+                case 'n', 'N' -> "u";
+                case 'o', 'O' -> "i";
+                default -> throw new IllegalStateException("Provided impossible format symbol '" + ch + "'");
+            };
+        } else if (ch == 'r' || ch == 'R') {
+            if (!reset) return null;
+            return "reset";
+        } else if (ch == '@') {
+            if (!gradient) return null;
+            return "gradient";
+        }
+        return null;
+    }
+
+    /**
+     * @return the index right after the color (e.g. {@code 123456}), or -1 if there's no valid color
+     */
+    static int hexColorEnd(CharSequence text, int from, int until) {
+        return from + 6 <= until && isHexPattern(text, from) ? from + 6 : -1;
+    }
+
+    /**
+     * @return the index right after the color (e.g. {@code &1&2&3&4&5&6}), or -1 if there's no valid color
+     */
+    static int legacyHexColorEnd(CharSequence text, int from, int until) {
+        int end = from + 12;
+        if (end > until) return -1;
+        for (int i = from; i < end; i += 2) {
+            if (!isMarker(text.charAt(i)) || !isHexDigit(text.charAt(i + 1))) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * @return the index of the closing {@code @} of a valid gradient (e.g. {@code red-#123456-a@}), -1 if there's none,
+     * or the until index if the text ends before it's known
+     */
+    static int gradientEnd(CharSequence text, int from, int until) {
+        for (int stop = from, stops = 0; ; stops++) {
+            int stopEnd = gradientStopEnd(text, stop, Math.min(until, stop + MAX_GRADIENT_STOP_LENGTH + 1));
+            if (stopEnd - stop > MAX_GRADIENT_STOP_LENGTH) {
+                return -1;
+            } else if (stopEnd == until) {
+                return until;
+            } else if (!isGradientStop(text, stop, stopEnd)) {
+                return -1;
+            }
+            char ch = text.charAt(stopEnd);
+            if (ch == '@') {
+                return stops > 0 ? stopEnd : -1;
+            } else if (ch != '-') {
+                return -1;
+            }
+            stop = stopEnd + 1;
+        }
+    }
+
+    static int gradientStopEnd(CharSequence text, int from, int until) {
+        for (int index = from; index < until; index++) {
+            char ch = text.charAt(index);
+            if (ch == '-' || ch == '@' || !isGradientChar(ch)) {
+                return index;
+            }
+        }
+        return until;
+    }
+
+    private static boolean isGradientChar(char ch) {
+        return ('a' <= ch && ch <= 'z') || ('A' <= ch && ch <= 'Z') || ('0' <= ch && ch <= '9') || ch == '#';
+    }
+
+    private static boolean isGradientStop(CharSequence text, int from, int to) {
+        int length = to - from;
+        if (length == 1) {
+            return colorByChar(text.charAt(from)) != null;
+        } else if (text.charAt(from) == '#') {
+            return length == 7 && isHexPattern(text, from + 1);
+        }
+        return length > 1 && isColorName(text, from, to);
+    }
+
+    private static boolean isColorName(CharSequence text, int from, int to) {
+        return colorIndex(text, from, to) != -1;
+    }
+
+    /**
+     * @return the RGB value of a valid gradient stop
+     */
+    static int colorValue(CharSequence text, int from, int to) {
+        if (to - from == 1) {
+            String name = colorByChar(text.charAt(from));
+            return COLOR_VALUES[colorIndex(name, 0, name.length())];
+        } else if (text.charAt(from) == '#') {
+            return Integer.parseInt(text, from + 1, to, 16);
+        }
+        return COLOR_VALUES[colorIndex(text, from, to)];
+    }
+
+    private static int colorIndex(CharSequence text, int from, int to) {
+        int low = 0;
+        int high = COLOR_NAMES.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compared = compare(COLOR_NAMES[middle], text, from, to);
+            if (compared < 0) {
+                low = middle + 1;
+            } else if (compared > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(String name, CharSequence text, int from, int to) {
+        int length = Math.min(name.length(), to - from);
+        for (int i = 0; i < length; i++) {
+            int compared = name.charAt(i) - text.charAt(from + i);
+            if (compared != 0) return compared;
+        }
+        return name.length() - (to - from);
+    }
+
+    // TODO Should probably follow the same logic as other colors do? Not sure
+    boolean isHexColorStandalone(CharSequence text, int index, int end, char prevChar) {
+        if (index + 6 >= end) return false;
+
+        char nextChar = index + 7 >= end
+                ? ' '
+                : text.charAt(index + 7);
+
+        if (isMarker(prevChar) && !doubleToEscape) return false; // &#123456, unless it was escaped as &&#123456
+        if (prevChar == '<' && nextChar == '>') return false; // <#123456>
+        if (prevChar == ':' && (nextChar == '>' || nextChar == ':')) return false; // <color:#123456> | <gradient:#123456:#654321>
+
+        return isHexPattern(text, index + 1);
+    }
+
+    static @Nullable String colorByChar(char ch) {
+        return switch (ch) {
+            case '0' -> "black";
+            case '1' -> "dark_blue";
+            case '2' -> "dark_green";
+            case '3' -> "dark_aqua";
+            case '4' -> "dark_red";
+            case '5' -> "dark_purple";
+            case '6' -> "gold";
+            case '7' -> "gray";
+            case '8' -> "dark_gray";
+            case '9' -> "blue";
+            case 'a', 'A' -> "green";
+            case 'b', 'B' -> "aqua";
+            case 'c', 'C' -> "red";
+            case 'd', 'D' -> "light_purple";
+            case 'e', 'E' -> "yellow";
+            case 'f', 'F' -> "white";
+
+            default -> null;
+        };
+    }
+
+    static boolean isHexPattern(CharSequence str, int from) {
+        for (int index = from, end = from + 6; index < end; index++) {
+            if (!isHexDigit(str.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isMarker(char ch) {
+        return ch == '&' || ch == '§';
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return switch (ch) {
+            case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+                 'a', 'b', 'c', 'd', 'e', 'f',
+                 'A', 'B', 'C', 'D', 'E', 'F' -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isHexPrefix(char ch) {
+        return switch (ch) {
+            case '#', 'x', 'X' -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isFormatChar(char ch) {
+        return switch (ch) {
+            case 'k', 'l', 'm', 'n', 'o',
+                 'K', 'L', 'M', 'N', 'O' -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * The state of translation that has to be kept between parts of the same text
+     */
+    static final class State {
+        // Packed open tags, in the order they were opened
+        long[] order = new long[8];
+        int size;
+        boolean hadColor;
+        char previous = ' ';
+        boolean inUse;
+        // Close the previous colors too, so nothing is left open when the text is cut
+        boolean closeColors;
+        // Minified translation keeps its own state
+        @Nullable Minifier minifier;
+
+        void push(long entry) {
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = entry;
+        }
+
+        void copyFrom(State other) {
+            order = Arrays.copyOf(other.order, other.order.length);
+            size = other.size;
+            hadColor = other.hadColor;
+            previous = other.previous;
+        }
+
+        /**
+         * @return true if the same tags are open, so the text after would be translated the same
+         */
+        boolean sameTags(State other) {
+            return size == other.size && hadColor == other.hadColor && Arrays.equals(order, 0, size, other.order, 0, size);
+        }
+
+        /**
+         * @return true if the same tags are open after the same char, so the same text after would be translated the same
+         */
+        boolean sameAs(State other) {
+            return previous == other.previous && sameTags(other);
+        }
+
+        void reset() {
+            size = 0;
+            hadColor = false;
+            previous = ' ';
+            inUse = false;
+            closeColors = false;
+            minifier = null;
+        }
+    }
+
+    /**
+     * How a custom code affects the tags opened before it
+     */
+    public enum CodeBehavior {
+        /**
+         * Closes the previous colors, like {@code &a} does
+         */
+        COLOR,
+        /**
+         * Stacks on top of the previous tags, like {@code &l} does
+         */
+        FORMAT,
+        /**
+         * Closes everything, like {@code &r} does
+         */
+        RESET
+    }
+
+    private record CustomCode(CodeBehavior behavior, String opening, String closing) {}
+
+    /**
+     * A builder for {@link Translator}
+     */
+    public static final class Builder {
+        private final Set<Option> options = EnumSet.noneOf(Option.class);
+        private final Map<Character, CustomCode> customCodes = new HashMap<>();
+        private TranslationMetrics metrics;
+
+        private Builder() {}
+
+        /**
+         * Enable the option
+         * @param option option to enable
+         * @return this builder
+         */
+        public @NotNull Builder option(@NotNull Option option) {
+            options.add(option);
+            return this;
+        }
+
+        /**
+         * Enable the options
+         * @param options options to enable
+         * @return this builder
+         */
+        public @NotNull Builder options(@NotNull Option @NotNull ... options) {
+            Collections.addAll(this.options, options);
+            return this;
+        }
+
+        /**
+         * Enable the options
+         * @param options options to enable
+         * @return this builder
+         */
+        public @NotNull Builder options(@NotNull Collection<@NotNull Option> options) {
+            this.options.addAll(options);
+            return this;
+        }
+
+        /**
+         * Translate a code to a tag, instead of the built-in one if there's any
+         * @param symbol symbol after the marker; letters are matched in both cases, like the built-in ones
+         * @param behavior how the code affects the tags opened before it
+         * @param tag tag to write, with no angle brackets, e.g. {@code rainbow} or {@code gradient:#5e4fa2:#f79459}
+         * @return this builder
+         * @see #code(char, CodeBehavior, String, String)
+         */
+        public @NotNull Builder code(char symbol, @NotNull CodeBehavior behavior, @NotNull String tag) {
+            int arguments = tag.indexOf(':');
+            return code(symbol, behavior, '<' + tag + '>', "</" + (arguments == -1 ? tag : tag.substring(0, arguments)) + '>');
+        }
+
+        /**
+         * Translate a code to the provided tags, instead of the built-in one if there's any
+         * @param symbol symbol after the marker; letters are matched in both cases, like the built-in ones
+         * @param behavior how the code affects the tags opened before it
+         * @param opening what to write for the code, e.g. {@code <rainbow>}; written as is for {@link CodeBehavior#RESET}
+         * @param closing what to write when the code is closed, e.g. {@code </rainbow>}; not used for {@link CodeBehavior#RESET}
+         * @return this builder
+         * @throws IllegalArgumentException if the symbol is not a printable ASCII char or is a marker, or the opening is empty
+         */
+        public @NotNull Builder code(char symbol, @NotNull CodeBehavior behavior, @NotNull String opening, @NotNull String closing) {
+            if (symbol <= ' ' || symbol >= 127 || isMarker(symbol)) {
+                throw new IllegalArgumentException("Code symbol must be a printable ASCII char other than '&', got '" + symbol + "'");
+            } else if (opening.isEmpty()) {
+                throw new IllegalArgumentException("Opening tag of a code can't be empty");
+            }
+            CustomCode code = new CustomCode(Objects.requireNonNull(behavior), opening, Objects.requireNonNull(closing));
+            customCodes.put(Character.toLowerCase(symbol), code);
+            customCodes.put(Character.toUpperCase(symbol), code);
+            return this;
+        }
+
+        /**
+         * Record the translations to the metrics
+         * @param metrics metrics to record to, or null to not record
+         * @return this builder
+         */
+        public @NotNull Builder metrics(@Nullable TranslationMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Build the translator
+         * @return translator with the enabled options, cached unless it has its own metrics or custom codes
+         * @throws IllegalArgumentException if there are custom codes and {@link Option#MINIFY} is enabled
+         */
+        public @NotNull Translator build() {
+            Translator translator = of(options);
+            if (!customCodes.isEmpty()) {
+                if (translator.minify) {
+                    // Minifying depends on what the tags do, which is unknown for custom ones
+                    throw new IllegalArgumentException("Custom codes can't be minified");
+                }
+                return new Translator(translator.mask, metrics == null ? translator.metrics : metrics, Map.copyOf(customCodes));
+            }
+            return metrics == null || metrics == translator.metrics ? translator : new Translator(translator.mask, metrics);
+        }
+    }
+}
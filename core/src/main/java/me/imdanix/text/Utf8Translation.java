@@ -0,0 +1,176 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+
+package me.imdanix.text;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Translates UTF-8 bytes mostly with no decoding, as every code is ASCII except {@code §}, which is always {@code C2 A7}.
+ * Unless there's a {@code A7} byte, the bytes are read as Latin-1, which is a plain copy.
+ * Otherwise, {@code §} is read as one char, and any other byte as a char that can't be a part of a code.
+ * Then the translation is written straight back byte by byte.
+ * Flattened gradients write a color for every char, so the text with multibyte chars is decoded for them.
+ * Text with codes is decoded for custom tags that aren't ASCII too, as they can't be written byte by byte.
+ */
+final class Utf8Translation {
+    private static final int NO_CODES = 0;
+    private static final int CODES = 1;
+    private static final int SECTIONS = 2;
+    private static final int DECODED = 3;
+    // Not Latin-1, so no byte of a multibyte char is taken for a code
+    private static final char NON_ASCII = 0x100;
+    private static final byte SECTION_FIRST = (byte) 0xC2;
+    private static final byte SECTION_SECOND = (byte) 0xA7;
+
+    private Utf8Translation() {}
+
+    static byte[] translate(Translator translator, byte[] utf8, int offset, int length) {
+        ByteBuffer in = ByteBuffer.wrap(utf8, offset, length);
+        int codes = scan(translator, in);
+        if (codes == NO_CODES) {
+            translator.recordPlain(length);
+            return Arrays.copyOfRange(utf8, offset, offset + length);
+        } else if (codes == DECODED) {
+            return translator.translate(new String(utf8, offset, length, UTF_8)).getBytes(UTF_8);
+        }
+        StringBuilder builder = translator.translate(text(in, codes), new StringBuilder(length + 16));
+        byte[] result = new byte[encodedLength(builder)];
+        encode(builder, result, 0);
+        return result;
+    }
+
+    static CoderResult translate(Translator translator, ByteBuffer in, ByteBuffer out) {
+        int codes = scan(translator, in);
+        if (codes == NO_CODES) {
+            if (out.remaining() < in.remaining()) return CoderResult.OVERFLOW;
+            translator.recordPlain(in.remaining());
+            out.put(in);
+            return CoderResult.UNDERFLOW;
+        } else if (codes == DECODED) {
+            byte[] result = translator.translate(UTF_8.decode(in.duplicate()).toString()).getBytes(UTF_8);
+            if (out.remaining() < result.length) return CoderResult.OVERFLOW;
+            out.put(result);
+            in.position(in.limit());
+            return CoderResult.UNDERFLOW;
+        }
+        StringBuilder builder = translator.translate(text(in, codes), new StringBuilder(in.remaining() + 16));
+        int encodedLength = encodedLength(builder);
+        if (out.remaining() < encodedLength) return CoderResult.OVERFLOW;
+        if (out.hasArray()) {
+            encode(builder, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + encodedLength);
+        } else {
+            encode(builder, out);
+        }
+        in.position(in.limit());
+        return CoderResult.UNDERFLOW;
+    }
+
+    private static int scan(Translator translator, ByteBuffer in) {
+        int result = NO_CODES;
+        boolean multibyte = false;
+        for (int i = in.position(), limit = in.limit(); i < limit; i++) {
+            byte b = in.get(i);
+            if (b == SECTION_SECOND) {
+                return translator.flattenGradient || !translator.asciiTags ? DECODED : SECTIONS;
+            } else if (b == '&' || (b == '#' && translator.hexColorStandalone)) {
+                result = CODES;
+            } else if (b < 0) {
+                multibyte = true;
+            }
+        }
+        if (result == CODES && (!translator.asciiTags || (multibyte && translator.flattenGradient))) {
+            return DECODED;
+        }
+        return result;
+    }
+
+    /**
+     * @return the bytes as chars the translator can read
+     */
+    private static String text(ByteBuffer in, int codes) {
+        if (codes != SECTIONS) {
+            if (in.hasArray()) {
+                return new String(in.array(), in.arrayOffset() + in.position(), in.remaining(), ISO_8859_1);
+            }
+            byte[] bytes = new byte[in.remaining()];
+            in.get(in.position(), bytes);
+            return new String(bytes, ISO_8859_1);
+        }
+        // § takes two bytes but only one char, and A7 may also be a part of another char
+        char[] chars = new char[in.remaining()];
+        int length = 0;
+        for (int i = in.position(), limit = in.limit(); i < limit; i++) {
+            byte b = in.get(i);
+            if (b == SECTION_FIRST && i + 1 < limit && in.get(i + 1) == SECTION_SECOND) {
+                chars[length++] = '§';
+                i++;
+            } else {
+                chars[length++] = b >= 0 ? (char) b : (char) (NON_ASCII | (b & 0xFF));
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * With no § in the text, the translation has none either, so every char is written as a single byte
+     */
+    private static int encodedLength(StringBuilder builder) {
+        int length = builder.length();
+        for (int i = 0; i < builder.length(); i++) {
+            if (builder.charAt(i) == '§') length++;
+        }
+        return length;
+    }
+
+    private static void encode(StringBuilder builder, ByteBuffer out) {
+        for (int i = 0, length = builder.length(); i < length; i++) {
+            char ch = builder.charAt(i);
+            if (ch == '§') {
+                out.put(SECTION_FIRST).put(SECTION_SECOND);
+            } else {
+                out.put((byte) ch);
+            }
+        }
+    }
+
+    private static void encode(StringBuilder builder, byte[] out, int offset) {
+        for (int i = 0, length = builder.length(); i < length; i++) {
+            char ch = builder.charAt(i);
+            if (ch == '§') {
+                out[offset++] = SECTION_FIRST;
+                out[offset++] = SECTION_SECOND;
+            } else {
+                out[offset++] = (byte) ch;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+    MIT License
+
+    Copyright (c) 2022-2025 Daniil Z. (idanix@list.ru)
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package me.imdanix.text;
+
+import static me.imdanix.text.Translator.*;
+
+/**
+ * Counts the chars of text a translation would render, following the same rules with nothing written.
+ * Tags that are already in the text are counted as text, as they're not translated.
+ */
+final class VisibleText {
+    private VisibleText() {}
+
+    static int length(Translator translator, CharSequence text) {
+        return (int) (scan(translator, text, Integer.MAX_VALUE) >>> 32);
+    }
+
+    /**
+     * Find where to cut the text, so its translation renders no more than the provided number of chars.
+     * The cut is placed right after the last char that fits, so the codes after it are dropped,
+     * and never between the chars of a surrogate pair.
+     * @return the index to cut the text at, or its length if it fits as is
+     */
+    static int end(Translator translator, CharSequence text, int maxVisible) {
+        return (int) scan(translator, text, maxVisible);
+    }
+
+    /**
+     * @param textStart the start of the text the cut is placed in, with no codes in it
+     * @return the index to cut the text at, moved back so the text before it is translated the same way
+     */
+    private static int cut(Translator translator, CharSequence text, int end, int textStart) {
+        if (end > 0 && Character.isHighSurrogate(text.charAt(end - 1)) && Character.isLowSurrogate(text.charAt(end))) {
+            end--;
+        }
+        // The only code that looks past itself: with the text cut right after, <#123456> would be taken for a color.
+        // The # of a code that was already read, e.g. &#123456, is not the text
+        int hash = end - 7;
+        if (translator.hexColorStandalone && hash >= textStart && text.charAt(hash) == '#'
+                && translator.isHexColorStandalone(text, hash, end, hash == 0 ? ' ' : text.charAt(hash - 1))) {
+            end = hash;
+        }
+        return end;
+    }
+
+    /**
+     * Walk the text as {@link Translator#translate(CharSequence, StringBuilder)} does, counting the chars that aren't tags
+     * @return the number of visible chars in the upper half, and the length of the text in the lower one;
+     *         or if there are more visible chars than the maximum, only the index to cut the text at
+     */
+    private static long scan(Translator translator, CharSequence text, int maxVisible) {
+        final int end = text.length();
+        int visible = 0;
+        // Right after the last visible char, where the text is cut if the next ones don't fit at all
+        int visibleEnd = 0;
+        // The start of the text that ends there, or the end if it's a code written as is
+        int textStart = 0;
+        int from = 0;
+        for (int index = 0; index < end; index++) {
+            char ch = text.charAt(index);
+            if (ch == '#') {
+                if (!translator.hexColorStandalone
+                        || !translator.isHexColorStandalone(text, index, end, index == 0 ? ' ' : text.charAt(index - 1))) {
+                    continue;
+                }
+            } else if (!isMarker(ch)) {
+                continue;
+            }
+
+            final int marker = index;
+            if (from < marker) {
+                int left = maxVisible - visible;
+                if (marker - from > left) {
+                    return left > 0 ? cut(translator, text, from + left, from) : cut(translator, text, visibleEnd, textStart);
+                }
+                visible += marker - from;
+                visibleEnd = marker;
+                textStart = from;
+            }
+            // Number of chars written instead of a code that isn't valid
+            int literal = 0;
+            if (ch == '#') {
+                index += 6;
+            } else if (++index >= end) {
+                literal = 1;
+            } else {
+                char symbol = text.charAt(index);
+                switch (translator.action(symbol)) {
+                    case ESCAPE -> literal = translator.doubleToEscape ? 1 : 2;
+                    case COLOR, FORMAT, RESET -> {}
+                    case HEX_COLOR, LEGACY_HEX_COLOR -> {
+                        int hexEnd = symbol != '#' ? legacyHexColorEnd(text, index + 1, end) : hexColorEnd(text, index + 1, end);
+                        if (hexEnd == -1) {
+                            literal = 2;
+                        } else {
+                            index = hexEnd - 1;
+                        }
+                    }
+                    case GRADIENT -> {
+                        int gradientEnd = gradientEnd(text, index + 1, end);
+                        if (gradientEnd == -1 || gradientEnd == end) {
+                            literal = 2;
+                        } else {
+                            index = gradientEnd;
+                        }
+                    }
+                    default -> literal = 2;
+                }
+            }
+            from = index + 1;
+            if (literal > 0) {
+                int left = maxVisible - visible;
+                // A marker is written as one char when the text ends right after it, so it can be cut there
+                if (literal > left) {
+                    return left > 0 ? cut(translator, text, marker + 1, marker + 1) : cut(translator, text, visibleEnd, textStart);
+                }
+                visible += literal;
+                visibleEnd = Math.min(from, end);
+                textStart = visibleEnd;
+            }
+        }
+        if (from < end) {
+            int left = maxVisible - visible;
+            if (end - from > left) {
+                return left > 0 ? cut(translator, text, from + left, from) : cut(translator, text, visibleEnd, textStart);
+            }
+            visible += end - from;
+        }
+        return (long) visible << 32 | end;
+    }
+}
@@ -0,0 +1,129 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator.CodeBehavior;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class BatchTranslatorTest {
+    private static final Translator TRANSLATOR = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+
+    private static List<String> lines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add("&" + Integer.toHexString(i % 16) + "Line &l" + i + " &#12345" + (i % 10) + "&@red-" + Integer.toHexString(i % 16) + "@!");
+        }
+        return lines;
+    }
+
+    private static List<String> sequential(List<String> lines) {
+        return lines.stream().map(TRANSLATOR::translate).toList();
+    }
+
+    @Test
+    public void listTest() {
+        List<String> lines = lines(10000);
+        assertEquals(TRANSLATOR.translateAll(lines), sequential(lines));
+        assertEquals(TRANSLATOR.translateAll(lines.subList(0, 10)), sequential(lines.subList(0, 10)));
+    }
+
+    @Test
+    public void arrayTest() {
+        List<String> lines = lines(5000);
+        BatchTranslator batch = BatchTranslator.builder(TRANSLATOR).parallelThreshold(100).build();
+        assertEquals(batch.translateAll(lines.toArray(new String[0])), sequential(lines).toArray(new String[0]));
+    }
+
+    @Test
+    public void executorTest() {
+        List<String> lines = lines(5000);
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BatchTranslator batch = BatchTranslator.builder(TRANSLATOR)
+                    .parallelThreshold(1000)
+                    .executor(task -> {
+                        tasks.incrementAndGet();
+                        executor.execute(task);
+                    })
+                    .build();
+            assertEquals(batch.translateAll(lines), sequential(lines));
+            assertTrue(tasks.get() > 1);
+
+            tasks.set(0);
+            assertEquals(batch.translateAll(lines.subList(0, 999)), sequential(lines.subList(0, 999)));
+            assertEquals(tasks.get(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void collectorTest() {
+        List<String> lines = lines(10000);
+        BatchTranslator batch = BatchTranslator.of(TRANSLATOR);
+        assertEquals(lines.parallelStream().collect(batch.toList()), sequential(lines));
+        assertEquals(IntStream.range(0, 3).mapToObj(i -> "&" + i).collect(batch.toList()), List.of("<black>", "<dark_blue>", "<dark_green>"));
+    }
+
+    @Test
+    public void splitTest() {
+        String text = "&aHello &l&@red-blue@world&r! ".repeat(1000);
+        AtomicInteger tasks = new AtomicInteger();
+        // The parallelism is taken from the pool, so it doesn't depend on the cores of the machine
+        ForkJoinPool executor = new ForkJoinPool(3) {
+            @Override
+            public void execute(Runnable task) {
+                tasks.incrementAndGet();
+                super.execute(task);
+            }
+        };
+        try {
+            BatchTranslator batch = BatchTranslator.builder(TRANSLATOR).splitThreshold(1000).executor(executor).build();
+            assertEquals(batch.translate(text), TRANSLATOR.translate(text));
+            assertTrue(tasks.get() > 1);
+
+            tasks.set(0);
+            String noResets = text.replace("&r", "&c");
+            assertEquals(batch.translate(noResets), TRANSLATOR.translate(noResets));
+            assertEquals(tasks.get(), 0);
+
+            Translator minify = Translator.of(Option.COLOR, Option.FORMAT, Option.RESET, Option.MINIFY);
+            assertEquals(BatchTranslator.builder(minify).splitThreshold(1000).executor(executor).build().translate(text), minify.translate(text));
+            assertEquals(tasks.get(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void randomSplitTest() {
+        Random random = new Random(23);
+        ForkJoinPool executor = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 500; i++) {
+                Set<Option> options = RandomText.options(random);
+                Translator.Builder builder = Translator.builder().options(options);
+                if (!options.contains(Option.MINIFY) && random.nextBoolean()) builder.code('z', CodeBehavior.RESET, "reset");
+                Translator translator = builder.build();
+                String input = RandomText.text(random, 400);
+                BatchTranslator batch = BatchTranslator.builder(translator).splitThreshold(1 + random.nextInt(64)).executor(executor).build();
+                assertEquals(batch.translate(input), translator.translate(input), input + " " + options);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+public class GradientColorsTest {
+    private static final Set<Option> FLATTENED = EnumSet.of(Option.COLOR, Option.FORMAT, Option.RESET, Option.GRADIENT,
+            Option.FAST_RESET, Option.DOUBLE_TO_ESCAPE, Option.FLATTEN_GRADIENT);
+
+    @DataProvider
+    public Object[][] flattenData() {
+        return new Object[][] {
+                {"&@red-blue@Hi", "<#ff5555>H</#ff5555><#5555ff>i</#5555ff>"},
+                {"&@red-blue@H", "<#ff5555>H</#ff5555>"},
+                {"&@a-#000000@Hi&7!", "<#55ff55>H</#55ff55><#2b802b>i</#2b802b><gray>!"},
+                {"&@red-blue@A&lB&r!", "<#ff5555>A</#ff5555><b><#5555ff>B</#5555ff><reset>!"},
+                {"&@red-blue@&&😀", "<#ff5555>&</#ff5555><#5555ff>😀</#5555ff>"},
+                {"&@red-blue@&a!", "<green>!"},
+                {"&@red-blue@&@red", "<#ff5555>&</#ff5555><#d55580>@</#d55580><#aa55aa>r</#aa55aa><#8055d5>e</#8055d5><#5555ff>d</#5555ff>"}
+        };
+    }
+
+    @Test(dataProvider = "flattenData")
+    public void flattenTest(String input, String expected) {
+        assertEquals(MiniTranslator.toMini(input, FLATTENED), expected);
+        assertSameLook(input, FLATTENED);
+    }
+
+    @Test
+    public void optionsTest() {
+        Set<Option> options = EnumSet.of(Option.COLOR, Option.GRADIENT, Option.VERBOSE_HEX_COLOR, Option.CLOSE_COLORS, Option.FLATTEN_GRADIENT);
+        assertEquals(MiniTranslator.toMini("&@red-blue@Hi&aA", options),
+                "<color:#ff5555>H</color:#ff5555><color:#5555ff>i</color:#5555ff><green>A</green>");
+        assertThrows(IllegalArgumentException.class, () -> Template.compile("&@red-blue@{player}", FLATTENED));
+    }
+
+    @Test
+    public void streamTest() {
+        Translator translator = Translator.of(FLATTENED);
+        Translator.State state = new Translator.State();
+        StringBuilder builder = new StringBuilder();
+        String text = "&a&@red-blue@Gradient&a!";
+        // The gradient waits until its length is known
+        assertEquals(translator.translate(text, 0, 15, builder, state, false), 2);
+        translator.translate(text, 2, text.length(), builder, state, true);
+        assertEquals(builder.toString(), MiniTranslator.toMini(text, FLATTENED));
+    }
+
+    @Test
+    public void cacheTest() {
+        String[] colors = GradientColors.of("red-gold-#123456", 0, 16, 10);
+        assertSame(GradientColors.of("&@red-gold-#123456@", 2, 18, 10), colors);
+        assertEquals(GradientColors.of("red-gold-#123456", 0, 16, 12).length, 12);
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(22);
+        for (int i = 0; i < 3000; i++) {
+            Set<Option> options = RandomText.options(random, Option.MINIFY);
+            options.add(Option.GRADIENT);
+            options.add(Option.FLATTEN_GRADIENT);
+            assertSameLook(RandomText.text(random, 32), options);
+        }
+    }
+
+    private static void assertSameLook(String input, Set<Option> options) {
+        Set<Option> gradient = EnumSet.copyOf(options);
+        gradient.remove(Option.FLATTEN_GRADIENT);
+        assertEquals(MinifierTest.flatten(miniMessage().deserialize(MiniTranslator.toMini(input, options))),
+                MinifierTest.flatten(miniMessage().deserialize(MiniTranslator.toMini(input, gradient))), input + " " + options);
+    }
+}
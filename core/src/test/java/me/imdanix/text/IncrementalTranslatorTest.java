@@ -0,0 +1,59 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class IncrementalTranslatorTest {
+    @Test
+    public void editTest() {
+        IncrementalTranslator incremental = IncrementalTranslator.of(Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+        assertEquals(incremental.set("&aHello &lworld"), "<green>Hello <b>world");
+        assertEquals(incremental.edit(8, 8, "&r"), "<green>Hello <reset><b>world");
+        assertEquals(incremental.edit(0, 2, ""), "Hello <reset><b>world");
+        assertEquals(incremental.text(), "Hello &r&lworld");
+        assertEquals(incremental.output(), "Hello <reset><b>world");
+    }
+
+    @Test
+    public void lookaheadTest() {
+        // The first &x is text because of the second one, which the edit removes
+        IncrementalTranslator incremental = IncrementalTranslator.of(Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+        incremental.set("a".repeat(240) + "&x&1&2&x&1&2&3&4&5&6Hello");
+        String text = incremental.text().substring(0, 247) + incremental.text().substring(249);
+        assertEquals(incremental.edit(247, 249, ""), MiniTranslator.toMini(text));
+        assertTrue(incremental.output().endsWith("<#121234><dark_purple><gold>Hello"));
+    }
+
+    @Test
+    public void minifyTest() {
+        assertThrows(IllegalArgumentException.class, () -> IncrementalTranslator.of(Translator.of(Option.MINIFY)));
+        assertThrows(IllegalArgumentException.class, () -> IncrementalTranslator.of(Translator.of(Option.GRADIENT, Option.FLATTEN_GRADIENT)));
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(17);
+        for (int i = 0; i < 300; i++) {
+            Set<Option> options = RandomText.options(random, Option.MINIFY, Option.FLATTEN_GRADIENT);
+            Translator translator = Translator.of(options);
+            IncrementalTranslator incremental = new IncrementalTranslator(translator, 1 + random.nextInt(12));
+            StringBuilder expected = new StringBuilder();
+            for (int j = 0; j < 40; j++) {
+                int start = random.nextInt(expected.length() + 1);
+                int end = start + random.nextInt(Math.min(8, expected.length() - start) + 1);
+                String replacement = RandomText.text(random, 3);
+                expected.replace(start, end, replacement);
+                String output = incremental.edit(start, end, replacement);
+                assertEquals(incremental.text(), expected.toString());
+                assertEquals(output, translator.translate(expected.toString()), expected + " " + options);
+            }
+        }
+    }
+}
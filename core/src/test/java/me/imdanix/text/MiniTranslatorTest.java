@@ -56,6 +56,14 @@ public class MiniTranslatorTest {
                         "&eYellow, &&astill yellow",
                         "<yellow>Yellow, &astill yellow",
                         "<yellow>Yellow, &astill yellow</yellow>"
+                }, {
+                        "§§aEscaped &§btoo &x&1§2&3&4&5&6hex",
+                        "&aEscaped &btoo <#123456>hex",
+                        "&aEscaped &btoo <color:#123456>hex</color:#123456>"
+                }, {
+                        "&@#abcdef-red-a@Gradient &@red-purple@invalid &xZ1Z2Z3Z4Z5Z6",
+                        "<gradient:#abcdef:red:green>Gradient &@red-purple@invalid &xZ1Z2Z3Z4Z5Z6",
+                        "<gradient:#abcdef:red:green>Gradient &@red-purple@invalid &xZ1Z2Z3Z4Z5Z6</gradient>"
                 }
         };
     }
@@ -69,6 +77,8 @@ public class MiniTranslatorTest {
     static {
         VERBOSE.remove(MiniTranslator.Option.FAST_RESET);
         VERBOSE.remove(MiniTranslator.Option.HEX_COLOR_STANDALONE);
+        VERBOSE.remove(MiniTranslator.Option.MINIFY);
+        VERBOSE.remove(MiniTranslator.Option.FLATTEN_GRADIENT);
     }
 
     @Test(dataProvider = "toMiniData")
@@ -91,6 +101,9 @@ public class MiniTranslatorTest {
                 }, {
                         "Should be parsed &&#123456anyway",
                         "Should be parsed &<color:#123456>anyway"
+                }, {
+                        "&@#123456-red@Gradient #654321",
+                        "<gradient:#123456:red>Gradient <color:#654321>"
                 }
         };
     }
@@ -98,6 +111,8 @@ public class MiniTranslatorTest {
     private static final Set<MiniTranslator.Option> STANDALONE = EnumSet.allOf(MiniTranslator.Option.class);
     static {
         STANDALONE.remove(MiniTranslator.Option.CLOSE_COLORS);
+        STANDALONE.remove(MiniTranslator.Option.MINIFY);
+        STANDALONE.remove(MiniTranslator.Option.FLATTEN_GRADIENT);
     }
 
     @Test(dataProvider = "toMiniStandaloneData")
@@ -0,0 +1,105 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MinifierTest {
+    private static final Set<Option> MINIFIED = EnumSet.of(Option.COLOR, Option.FORMAT, Option.RESET, Option.GRADIENT, Option.MINIFY);
+
+    @DataProvider
+    public Object[][] minifyData() {
+        return new Object[][] {
+                {"&a&aSame color", "<green>Same color"},
+                {"&a&lA&r&a&lB", "<green><b>AB"},
+                {"&c&lRed &c&lbold", "<red><b>Red bold"},
+                {"&aGreen&r&a again", "<green>Green again"},
+                {"&lBold &l&lbold", "<b>Bold bold"},
+                {"&a&c&eYellow", "<yellow>Yellow"},
+                {"&a&l&o&nA&cB", "<green><b><i><u>A</b><red>B"},
+                {"&a&lA&a&oB", "<green><b>A</b><i>B"},
+                {"Trailing &a&l", "Trailing "},
+                {"&@red-blue@Gradient &cred &@red-blue@again", "<gradient:red:blue>Gradient <red>red <gradient:red:blue>again"},
+                {"&lBold &rplain", "<b>Bold </b>plain"}
+        };
+    }
+
+    @Test(dataProvider = "minifyData")
+    public void minifyTest(String input, String expected) {
+        assertEquals(MiniTranslator.toMini(input, MINIFIED), expected);
+        assertSameLook(input, MINIFIED, true);
+    }
+
+    @Test
+    public void closeColorsTest() {
+        Set<Option> options = EnumSet.of(Option.COLOR, Option.FORMAT, Option.CLOSE_COLORS, Option.MINIFY);
+        assertEquals(MiniTranslator.toMini("&a&lA&a&lB&c", options), "<green><b>AB</green>");
+        assertSameLook("&a&lA&a&lB&c", options, true);
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(14);
+        for (int i = 0; i < 3000; i++) {
+            Set<Option> options = RandomText.options(random);
+            options.add(Option.MINIFY);
+            assertSameLook(RandomText.text(random, 32), options, false);
+        }
+    }
+
+    private static void assertSameLook(String input, Set<Option> options, boolean checkLength) {
+        Set<Option> full = EnumSet.copyOf(options);
+        full.remove(Option.MINIFY);
+        String expected = MiniTranslator.toMini(input, full);
+        String minified = MiniTranslator.toMini(input, options);
+        assertEquals(flatten(miniMessage().deserialize(minified)),
+                flatten(miniMessage().deserialize(expected)), input + " " + options);
+        if (checkLength) {
+            assertTrue(minified.length() <= expected.length(), minified + " is longer than " + expected);
+        }
+    }
+
+    /**
+     * @return every character with its effective color and decorations
+     */
+    static List<String> flatten(Component component) {
+        List<String> result = new ArrayList<>();
+        flatten(component, null, EnumSet.noneOf(TextDecoration.class), result);
+        return result;
+    }
+
+    private static void flatten(Component component, TextColor color, Set<TextDecoration> decorations, List<String> result) {
+        if (component.color() != null) color = component.color();
+        decorations = decorations.isEmpty() ? EnumSet.noneOf(TextDecoration.class) : EnumSet.copyOf(decorations);
+        for (TextDecoration decoration : TextDecoration.values()) {
+            switch (component.decoration(decoration)) {
+                case TRUE -> decorations.add(decoration);
+                case FALSE -> decorations.remove(decoration);
+                default -> {}
+            }
+        }
+        if (component instanceof TextComponent text) {
+            String content = text.content();
+            for (int i = 0; i < content.length(); i = content.offsetByCodePoints(i, 1)) {
+                result.add(content.codePointAt(i) + " " + (color == null ? null : color.asHexString()) + " " + decorations);
+            }
+        }
+        for (Component child : component.children()) {
+            flatten(child, color, decorations, result);
+        }
+    }
+}
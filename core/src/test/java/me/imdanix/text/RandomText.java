@@ -0,0 +1,49 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Random text and options for the tests that check a property over whatever the translation gets
+ */
+final class RandomText {
+    /**
+     * Plain chars, whole codes, and parts of codes that only become codes, or don't, with what's around them
+     */
+    static final String[] SYMBOLS = {
+            "&", "§", "#", "@", "-", ":", " ", "a", "c", "f", "l", "o", "r", "x", "z", "R", "X", "1", "2", "red",
+            "ç", "Ё", "Â", "😀",
+            "&a", "&l", "&r", "§r", "&&", "&z", "#12ab56", "&#12ab56", "&x&1&2&3&4&5&6", "&@a-c@", "&@red-#123456-e@",
+            "&x&1&2", "3&4&5&6", "&#12ab", "&@red", "&@red-", "blue@", "&x&r", "&#12345&r", "&@red-&r@"
+    };
+    private static final Option[] OPTIONS = Option.values();
+
+    private RandomText() {}
+
+    /**
+     * @return text of up to the number of symbols
+     */
+    static String text(Random random, int maxSymbols) {
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(maxSymbols + 1); i > 0; i--) {
+            text.append(SYMBOLS[random.nextInt(SYMBOLS.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return options, each enabled or not by a coin toss, except for the excluded ones
+     */
+    static Set<Option> options(Random random, Option... excluded) {
+        List<Option> skipped = List.of(excluded);
+        Set<Option> options = EnumSet.noneOf(Option.class);
+        for (Option option : OPTIONS) {
+            if (random.nextBoolean() && !skipped.contains(option)) options.add(option);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,104 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.Translator.State;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.testng.annotations.Test;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class TemplateTest {
+    @Test
+    public void renderTest() {
+        Template template = Template.compile("&7[&a{rank}&7] &f{player}&8: &r{message}");
+        assertEquals(template.placeholders(), List.of("rank", "player", "message"));
+        assertEquals(template.render(Map.of("rank", "VIP", "player", "imDaniX"), Map.of("message", "&lHello")),
+                "<gray>[<green>VIP<gray>] <white>imDaniX<dark_gray>: <reset><b>Hello");
+        assertEquals(template.render(Map.of("rank", "VIP", "player", "imDaniX"), Map.of("message", "Hello")),
+                "<gray>[<green>VIP<gray>] <white>imDaniX<dark_gray>: <reset>Hello");
+    }
+
+    @Test
+    public void missingTest() {
+        Template template = Template.compile("&a{player} {not closed {} {a b}");
+        assertEquals(template.placeholders(), List.of("player"));
+        assertEquals(template.render(Map.of()), "<green>{player} {not closed {} {a b}");
+    }
+
+    @Test
+    public void valueChangesTagsTest() {
+        Set<Option> options = EnumSet.of(Option.COLOR, Option.FORMAT, Option.CLOSE_COLORS);
+        Template template = Template.compile("&a{first}&lbold {second}&cred", options);
+        assertEquals(template.render(Map.of(), Map.of("first", "&e", "second", "x")),
+                MiniTranslator.toMini("&a&e&lbold x&cred", options));
+        assertEquals(template.render(Map.of(), Map.of("first", "y", "second", "&o")),
+                MiniTranslator.toMini("&ay&lbold &o&cred", options));
+    }
+
+    @Test
+    public void escapedTest() {
+        Template template = Template.compile("&a{player}");
+        String rendered = template.render(Map.of("player", "<red>\\Not red&c"));
+        assertEquals(miniMessage().deserialize(rendered), Component.text("<red>\\Not red&c", NamedTextColor.GREEN));
+    }
+
+    @Test
+    public void minifyTest() {
+        assertThrows(IllegalArgumentException.class, () -> Template.compile("{a}", Option.COLOR, Option.MINIFY));
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(15);
+        String[] names = {"a", "b", "c"};
+        for (int i = 0; i < 2000; i++) {
+            Set<Option> options = RandomText.options(random, Option.MINIFY, Option.HEX_COLOR_STANDALONE, Option.FLATTEN_GRADIENT);
+            Map<String, String> plain = new HashMap<>();
+            Map<String, String> translated = new HashMap<>();
+            for (String name : names) {
+                if (random.nextBoolean()) {
+                    plain.put(name, random.nextBoolean() ? "plain" : "");
+                } else {
+                    translated.put(name, RandomText.text(random, 4));
+                }
+            }
+            Translator translator = Translator.of(options);
+            // A code never continues from the text to a value, so the parts are translated one after another with the tags kept open
+            State state = new State();
+            StringBuilder template = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            StringBuilder text = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                if (random.nextInt(3) == 0) {
+                    translator.translate(text, 0, text.length(), expected, state, true, false);
+                    text.setLength(0);
+                    String name = names[random.nextInt(names.length)];
+                    template.append('{').append(name).append('}');
+                    if (plain.containsKey(name)) {
+                        expected.append(plain.get(name));
+                    } else {
+                        String value = translated.get(name);
+                        translator.translate(value, 0, value.length(), expected, state, true, false);
+                    }
+                } else {
+                    String part = RandomText.text(random, 3);
+                    template.append(part);
+                    text.append(part);
+                }
+            }
+            translator.translate(text, 0, text.length(), expected, state, true);
+            assertEquals(Template.compile(template.toString(), translator).render(plain, translated),
+                    expected.toString(), template + " " + plain + " " + translated + " " + options);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class TranslatingReaderTest {
+    @Test
+    public void largeTextTest() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append("&").append(Integer.toHexString(i % 16)).append("Line ").append(i).append(" &x&1&2&3&4&5&6&@red-#123456@&l&&a\n");
+        }
+        StringBuilder result = new StringBuilder();
+        try (Reader reader = new TranslatingReader(new StringReader(text.toString()))) {
+            char[] buffer = new char[1000];
+            for (int read; (read = reader.read(buffer)) != -1; ) {
+                result.append(buffer, 0, read);
+            }
+        }
+        assertEquals(result.toString(), MiniTranslator.toMini(text.toString()));
+    }
+
+    @Test
+    public void trailingCodeTest() throws IOException {
+        try (Reader reader = new TranslatingReader(new StringReader("Unfinished &@red-"))) {
+            StringBuilder result = new StringBuilder();
+            for (int ch; (ch = reader.read()) != -1; ) {
+                result.append((char) ch);
+            }
+            assertEquals(result.toString(), "Unfinished &@red-");
+        }
+    }
+
+    @Test
+    public void flattenGradientTest() {
+        Translator translator = Translator.of(Option.GRADIENT, Option.FLATTEN_GRADIENT);
+        assertThrows(IllegalArgumentException.class, () -> new TranslatingReader(new StringReader("&@red-blue@Hi"), translator));
+    }
+}
@@ -0,0 +1,67 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class TranslatingWriterTest {
+    @DataProvider
+    public Object[][] splitData() {
+        return new Object[][] {
+                {"&", MiniTranslator.DEFAULT_OPTIONS},
+                {"&x&1&2&3&4&5&6 split hex", MiniTranslator.DEFAULT_OPTIONS},
+                {"&@red-#123456-a@split gradient &@red-yel", MiniTranslator.DEFAULT_OPTIONS},
+                {"&a&lClosed &cat the end", EnumSet.of(Option.COLOR, Option.FORMAT, Option.CLOSE_COLORS)},
+                {"&&#123456 and #654321>", EnumSet.complementOf(EnumSet.of(Option.FLATTEN_GRADIENT))}
+        };
+    }
+
+    @Test(dataProvider = "splitData")
+    public void charByCharTest(String text, Set<Option> options) throws IOException {
+        Translator translator = Translator.of(options);
+        StringWriter result = new StringWriter();
+        try (TranslatingWriter writer = new TranslatingWriter(result, translator)) {
+            for (char ch : text.toCharArray()) {
+                writer.write(ch);
+            }
+        }
+        assertEquals(result.toString(), translator.translate(text));
+    }
+
+    @Test
+    public void randomSplitTest() throws IOException {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            Translator translator = Translator.of(RandomText.options(random, Option.FLATTEN_GRADIENT));
+            String text = RandomText.text(random, 80);
+
+            StringWriter result = new StringWriter();
+            try (TranslatingWriter writer = new TranslatingWriter(result, translator)) {
+                for (int from = 0, to; from < text.length(); from = to) {
+                    to = Math.min(text.length(), from + 1 + random.nextInt(16));
+                    if (random.nextBoolean()) {
+                        writer.write(text, from, to - from);
+                    } else {
+                        writer.write(text.substring(from, to).toCharArray());
+                    }
+                }
+            }
+            assertEquals(result.toString(), translator.translate(text), text);
+        }
+    }
+
+    @Test
+    public void flattenGradientTest() {
+        Translator translator = Translator.of(Option.GRADIENT, Option.FLATTEN_GRADIENT);
+        assertThrows(IllegalArgumentException.class, () -> new TranslatingWriter(new StringWriter(), translator));
+    }
+}
@@ -0,0 +1,84 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TranslationCacheTest {
+    @Test
+    public void statsTest() {
+        TranslationCache cache = TranslationCache.builder().maximumEntries(100).build();
+        assertEquals(cache.translate("&aHello"), "<green>Hello");
+        assertEquals(cache.translate("&aHello"), "<green>Hello");
+        assertEquals(cache.translate(Translator.of(Option.COLOR, Option.CLOSE_COLORS), "&aHello"), "<green>Hello</green>");
+        assertEquals(cache.stats(), new TranslationCache.Stats(1, 2, 0));
+        assertEquals(cache.size(), 2);
+        cache.clear();
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "Plain LRU would never hit there, as every hot line is followed by 31 other lines")
+    public void frequentSurviveTest() {
+        TranslationCache cache = TranslationCache.builder().maximumEntries(16).build();
+        long hotHits = 0;
+        for (int i = 0; i < 10000; i++) {
+            cache.translate("&fOne-off message #" + i);
+            long hits = cache.stats().hits();
+            cache.translate("&7Hot line #" + (i % 16));
+            hotHits += cache.stats().hits() - hits;
+        }
+        assertTrue(hotHits > 9000, "Hot hits " + hotHits);
+        assertEquals(cache.size(), 16);
+    }
+
+    @Test
+    public void charactersBoundTest() {
+        TranslationCache cache = TranslationCache.builder().maximumCharacters(100).build();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 1 + i % 3; j++) {
+                cache.translate("&c" + i);
+            }
+        }
+        assertTrue(cache.size() <= 10, "Cached " + cache.size());
+        assertTrue(cache.stats().evictions() > 0);
+
+        long misses = cache.stats().misses();
+        String text = "&a" + "long text".repeat(10);
+        cache.translate(text);
+        assertEquals(cache.translate(text), "<green>" + "long text".repeat(10));
+        assertEquals(cache.stats().misses() - misses, 2);
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        TranslationCache cache = TranslationCache.builder().maximumEntries(256).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        String text = "&" + Integer.toHexString(i % 16) + "Line " + (i % 512);
+                        assertEquals(cache.translate(text), MiniTranslator.toMini(text));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        TranslationCache.Stats stats = cache.stats();
+        assertEquals(stats.hits() + stats.misses(), 4 * 20000);
+        assertTrue(cache.size() <= 256);
+    }
+}
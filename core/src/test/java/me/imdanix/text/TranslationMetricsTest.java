@@ -0,0 +1,78 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import me.imdanix.text.TranslationMetrics.CodeKind;
+import org.testng.annotations.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TranslationMetricsTest {
+    @Test
+    public void countersTest() {
+        TranslationMetrics metrics = TranslationMetrics.create();
+        Translator translator = Translator.builder().options(MiniTranslator.DEFAULT_OPTIONS).metrics(metrics).build();
+        assertNotSame(translator, Translator.of(MiniTranslator.DEFAULT_OPTIONS));
+        assertNull(Translator.of(MiniTranslator.DEFAULT_OPTIONS).metrics());
+
+        String text = "&a&lHi &#123456&x&1&2&3&4&5&6&@red-blue@there&r!";
+        String translated = translator.translate(text);
+        translator.translate("No codes");
+        Translator.builder().option(Option.COLOR).metrics(metrics).build().translate("&cRed");
+
+        assertEquals(metrics.calls(), 3);
+        assertEquals(metrics.inputCharacters(), text.length() + 8 + "&cRed".length());
+        assertEquals(metrics.outputCharacters(), translated.length() + 8 + "<red>Red".length());
+        assertEquals(metrics.codes(CodeKind.NAMED_COLOR), 2);
+        assertEquals(metrics.codes(CodeKind.HEX_COLOR), 2);
+        assertEquals(metrics.codes(CodeKind.GRADIENT), 1);
+        assertEquals(metrics.codes(CodeKind.FORMAT), 1);
+        assertEquals(metrics.codes(CodeKind.RESET), 1);
+        assertEquals(Arrays.stream(metrics.latencyHistogram()).sum(), 3);
+        assertTrue(metrics.latencyPercentile(0.99) > 0);
+        assertEquals(metrics.profileCalls(), Map.of(MiniTranslator.DEFAULT_OPTIONS, 2L, Set.of(Option.COLOR), 1L));
+
+        metrics.reset();
+        assertEquals(metrics.calls(), 0);
+        assertEquals(metrics.latencyPercentile(0.5), 0);
+    }
+
+    @Test
+    public void mxBeanTest() throws Exception {
+        TranslationMetrics metrics = TranslationMetrics.create();
+        ObjectName name = metrics.register("test");
+        try {
+            Translator.builder().options(MiniTranslator.DEFAULT_OPTIONS).metrics(metrics).build().translate("&aGreen &lbold");
+            var server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(server.getAttribute(name, "Calls"), 1L);
+            assertEquals(server.getAttribute(name, "InputCharacters"), 14L);
+            TabularData codes = (TabularData) server.getAttribute(name, "Codes");
+            assertEquals(codes.get(new Object[] {"FORMAT"}).get("value"), 1L);
+            server.invoke(name, "reset", null, null);
+            assertEquals(metrics.calls(), 0);
+        } finally {
+            TranslationMetrics.unregister("test");
+        }
+        assertTrue(!ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void registeredTwiceTest() {
+        TranslationMetrics metrics = TranslationMetrics.create();
+        metrics.register("twice");
+        try {
+            metrics.register("twice");
+        } finally {
+            TranslationMetrics.unregister("twice");
+        }
+    }
+}
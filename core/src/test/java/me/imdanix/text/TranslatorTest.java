@@ -0,0 +1,156 @@
+package me.imdanix.text;
+
+import com.sun.management.ThreadMXBean;
+import me.imdanix.text.MiniTranslator.Option;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TranslatorTest {
+    @Test
+    public void cachedTest() {
+        assertSame(Translator.of(Option.COLOR, Option.FORMAT), Translator.of(List.of(Option.FORMAT, Option.COLOR)));
+        assertSame(Translator.of(MiniTranslator.DEFAULT_OPTIONS), Translator.builder().options(MiniTranslator.DEFAULT_OPTIONS).build());
+    }
+
+    @Test
+    public void optionsTest() {
+        Translator translator = Translator.builder().option(Option.COLOR).option(Option.CLOSE_COLORS).build();
+        assertEquals(translator.options(), EnumSet.of(Option.COLOR, Option.CLOSE_COLORS));
+        assertTrue(translator.has(Option.CLOSE_COLORS));
+        assertTrue(Translator.of().options().isEmpty());
+    }
+
+    @Test
+    public void translateTest() {
+        Translator translator = Translator.of(Option.COLOR, Option.CLOSE_COLORS);
+        assertEquals(translator.translate("&aGreen &lnot bold &cred"), "<green>Green &lnot bold </green><red>red</red>");
+        assertEquals(translator.translate("&aGreen"), MiniTranslator.toMini("&aGreen", Option.COLOR, Option.CLOSE_COLORS));
+    }
+
+    @Test
+    public void sinkTest() throws IOException {
+        Translator translator = Translator.of(MiniTranslator.DEFAULT_OPTIONS);
+        StringBuilder builder = new StringBuilder("[Chat] ");
+        CharSequence message = new StringBuilder("&7Player: &aHi &#123456#123456");
+        translator.translate(message, 0, 9, builder).append(' ');
+        translator.translate(message, 10, message.length(), builder);
+        assertEquals(builder.toString(), "[Chat] <gray>Player: <green>Hi <#123456>#123456");
+
+        StringWriter writer = new StringWriter();
+        MiniTranslator.toMini("Say &c&lhi&r!", 4, 12, writer);
+        assertEquals(writer.toString(), "<red><b>hi<reset>");
+    }
+
+    @Test
+    public void noCodesTest() {
+        String text = "Nothing to translate #123456 here";
+        assertSame(Translator.of(MiniTranslator.DEFAULT_OPTIONS).translate(text), text);
+        assertEquals(Translator.of(Option.COLOR, Option.HEX_COLOR_STANDALONE).translate(text), "Nothing to translate <#123456> here");
+
+        String padding = "Long text with no codes for a while. ".repeat(20);
+        String mixed = padding + "&aGreen" + padding + "&#123456&lhex" + padding;
+        assertEquals(MiniTranslator.toMini(mixed), padding + "<green>Green" + padding + "<#123456><b>hex" + padding);
+        assertEquals(Translator.of(MiniTranslator.DEFAULT_OPTIONS).translate(mixed, 1, padding.length() + 7, new StringBuilder()).toString(),
+                padding.substring(1) + "<green>Green");
+    }
+
+    @Test
+    public void standaloneRangeTest() {
+        Translator translator = Translator.of(Option.COLOR, Option.HEX_COLOR_STANDALONE);
+        String text = "&#123456";
+        assertEquals(translator.translate(text, 1, text.length(), new StringBuilder()).toString(), "<#123456>");
+        assertEquals(translator.translate(text, 0, 7, new StringBuilder()).toString(), "&#12345");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void selfSinkTest() {
+        StringBuilder builder = new StringBuilder("&a");
+        Translator.of().translate(builder, builder);
+    }
+
+    @Test
+    public void colorNamesTest() {
+        for (String name : NamedTextColor.NAMES.keys()) {
+            if (name.length() > 7) continue;
+            assertEquals(MiniTranslator.toMini("&@" + name + "-" + name + "@"), "<gradient:" + name + ":" + name + ">", name);
+        }
+        assertEquals(MiniTranslator.toMini("&@reds-blue@"), "&@reds-blue@");
+        assertEquals(MiniTranslator.toMini("&@re-blue@"), "&@re-blue@");
+    }
+
+    @Test
+    public void customCodesTest() {
+        Translator translator = Translator.builder()
+                .options(Option.COLOR, Option.FORMAT, Option.RESET, Option.CLOSE_COLORS)
+                .code('z', Translator.CodeBehavior.COLOR, "rainbow")
+                .code('g', Translator.CodeBehavior.COLOR, "gradient:#5e4fa2:#f79459")
+                .code('h', Translator.CodeBehavior.FORMAT, "<highlight>", "</highlight>")
+                .code('q', Translator.CodeBehavior.RESET, "<reset><gray>", "")
+                .code('c', Translator.CodeBehavior.COLOR, "color:#ff5555")
+                .build();
+        assertTrue(translator.hasCustomCodes());
+        assertNotSame(translator, Translator.of(translator.options()));
+        assertEquals(translator.translate("&zRainbow &hhigh &aGreen &GBrand&qreset"),
+                "<rainbow>Rainbow <highlight>high </highlight></rainbow><green>Green </green>"
+                        + "<gradient:#5e4fa2:#f79459>Brand<reset><gray>reset");
+        assertEquals(translator.translate("&cRed &Cred"), "<color:#ff5555>Red </color><color:#ff5555>red</color>");
+        assertEquals(translator.translate("&jNot a code"), "&jNot a code");
+        assertEquals(Translator.of(Option.COLOR).translate("&zNot a code"), "&zNot a code");
+    }
+
+    @Test
+    public void invalidCustomCodesTest() {
+        assertThrows(IllegalArgumentException.class, () -> Translator.builder().code('&', Translator.CodeBehavior.COLOR, "red"));
+        assertThrows(IllegalArgumentException.class, () -> Translator.builder().code('ж', Translator.CodeBehavior.COLOR, "red"));
+        assertThrows(IllegalArgumentException.class, () -> Translator.builder().code('z', Translator.CodeBehavior.COLOR, "", ""));
+        assertThrows(IllegalArgumentException.class, () -> Translator.builder()
+                .option(Option.MINIFY).code('z', Translator.CodeBehavior.COLOR, "rainbow").build());
+    }
+
+    @Test
+    public void allocationTest() {
+        assertNoAllocations(Translator.of(EnumSet.complementOf(EnumSet.of(Option.MINIFY, Option.FLATTEN_GRADIENT))));
+    }
+
+    @Test
+    public void flattenAllocationTest() {
+        // The colors of a gradient are cached after the first time
+        assertNoAllocations(Translator.of(EnumSet.complementOf(EnumSet.of(Option.MINIFY))));
+    }
+
+    private static void assertNoAllocations(Translator translator) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "Allocated memory is not measurable");
+        String[] texts = {
+                "&x&1&2&3&4&5&6Legacy &#abcdefhex &lbold &a&ogreen #123456 &r&&a",
+                "&@red-#123456-a@Gradient &lbold&@gold-yellow@ again &c&nred",
+                "Plain text with no codes at all, but long enough to matter",
+        };
+        StringBuilder builder = new StringBuilder(4096);
+        long thread = Thread.currentThread().getId();
+        for (int round = 0; round < 2; round++) {
+            int calls = 20_000;
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < calls; i++) {
+                builder.setLength(0);
+                translator.translate(texts[i % texts.length], 0, texts[i % texts.length].length(), builder);
+                translator.translate(texts[2]);
+            }
+            long perCall = (threads.getThreadAllocatedBytes(thread) - before) / calls;
+            // The first round warms up the thread state and the compiler
+            if (round == 1) assertTrue(perCall < 8, "Allocated " + perCall + " bytes per call");
+        }
+    }
+}
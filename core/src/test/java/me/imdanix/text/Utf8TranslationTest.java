@@ -0,0 +1,86 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.util.Random;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class Utf8TranslationTest {
+    @DataProvider
+    public Object[][] utf8Data() {
+        return new Object[][] {
+                {"§aGreen §lbold", "<green>Green <b>bold"},
+                {"&cКрасный &#123456текст", "<red>Красный <#123456>текст"},
+                {"ç&aç §z §", "ç<green>ç &z &"},
+                {"&@red-blue@😀 §rЁ", "<gradient:red:blue>😀 <reset>Ё"},
+                {"No codes, только текст", "No codes, только текст"},
+        };
+    }
+
+    @Test(dataProvider = "utf8Data")
+    public void bytesTest(String input, String expected) {
+        assertEquals(new String(MiniTranslator.toMini(input.getBytes(UTF_8)), UTF_8), expected);
+    }
+
+    @Test(dataProvider = "utf8Data")
+    public void directBufferTest(String input, String expected) {
+        byte[] bytes = input.getBytes(UTF_8);
+        ByteBuffer in = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        ByteBuffer out = ByteBuffer.allocateDirect(expected.length() * 2);
+        assertSame(MiniTranslator.toMini(in, out), CoderResult.UNDERFLOW);
+        assertEquals(in.remaining(), 0);
+        byte[] result = new byte[out.flip().remaining()];
+        out.get(result);
+        assertEquals(new String(result, UTF_8), expected);
+    }
+
+    @Test
+    public void overflowTest() {
+        ByteBuffer in = ByteBuffer.wrap("&aGreen".getBytes(UTF_8));
+        ByteBuffer out = ByteBuffer.allocate(8);
+        assertSame(MiniTranslator.toMini(in, out), CoderResult.OVERFLOW);
+        assertEquals(in.position(), 0);
+        assertEquals(out.position(), 0);
+        out = ByteBuffer.allocate(12);
+        assertSame(MiniTranslator.toMini(in, out), CoderResult.UNDERFLOW);
+        assertEquals(new String(out.array(), UTF_8), "<green>Green");
+
+        in = ByteBuffer.wrap("Plain".getBytes(UTF_8));
+        assertSame(MiniTranslator.toMini(in, ByteBuffer.allocate(4)), CoderResult.OVERFLOW);
+        assertEquals(in.position(), 0);
+    }
+
+    @Test
+    public void customCodesTest() {
+        Translator translator = Translator.builder()
+                .options(MiniTranslator.DEFAULT_OPTIONS)
+                .code('z', Translator.CodeBehavior.FORMAT, "<hover:show_text:'★ é'>", "</hover>")
+                .build();
+        for (String text : new String[] {"&zHover", "&zé §aç", "§z&z"}) {
+            String expected = translator.translate(text);
+            assertEquals(translator.translate(text.getBytes(UTF_8)), expected.getBytes(UTF_8), text);
+            ByteBuffer out = ByteBuffer.allocate(expected.length() * 3);
+            assertSame(translator.translate(ByteBuffer.wrap(text.getBytes(UTF_8)), out), CoderResult.UNDERFLOW);
+            assertEquals(new String(out.array(), 0, out.position(), UTF_8), expected, text);
+        }
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(19);
+        for (int i = 0; i < 3000; i++) {
+            Set<Option> options = RandomText.options(random);
+            Translator translator = Translator.of(options);
+            String text = RandomText.text(random, 24);
+            assertEquals(new String(translator.translate(text.getBytes(UTF_8)), UTF_8), translator.translate(text), text + " " + options);
+        }
+    }
+}
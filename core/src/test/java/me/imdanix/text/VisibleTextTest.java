@@ -0,0 +1,134 @@
+package me.imdanix.text;
+
+import me.imdanix.text.MiniTranslator.Option;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.adventure.text.minimessage.MiniMessage.miniMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+public class VisibleTextTest {
+    @DataProvider
+    public Object[][] lengthData() {
+        return new Object[][] {
+                {"&aHi", 2},
+                {"&x&1&2&3&4&5&6Hi", 2},
+                {"&#123456Hi", 2},
+                {"&@red-#123456-a@Hi", 2},
+                {"&@red-#123456-a", 15},
+                {"&@red", 5},
+                {"&&aEscaped", 9},
+                {"&zText &", 8},
+                {"§a§lBold", 4},
+                {"<red>Tags</red>", 15},
+                {"😀&a!", 3}
+        };
+    }
+
+    @Test(dataProvider = "lengthData")
+    public void lengthTest(String input, int expected) {
+        assertEquals(MiniTranslator.visibleLength(input), expected);
+    }
+
+    @Test
+    public void optionsTest() {
+        assertEquals(MiniTranslator.visibleLength("&&a&l#123456", Option.COLOR), 12);
+        assertEquals(MiniTranslator.visibleLength("&&a&l#123456", Option.COLOR, Option.FORMAT, Option.HEX_COLOR_STANDALONE), 3);
+        assertEquals(MiniTranslator.visibleLength("<#123456> #123456", Set.of(Option.COLOR, Option.HEX_COLOR_STANDALONE)), 10);
+    }
+
+    @DataProvider
+    public Object[][] truncateData() {
+        return new Object[][] {
+                {"&aHello &lworld", 7, "<green>Hello <b>w</b></green>"},
+                {"&aHello&c", 5, "<green>Hello<red>"},
+                {"&aA&bB&cC", 2, "<green>A</green><aqua>B</aqua>"},
+                {"&aHello&c!", 5, "<green>Hello</green>"},
+                {"&aA&r&bB", 1, "<green>A</green>"},
+                {"&c&lA&zB", 2, "<red><b>A&</b></red>"},
+                {"&@red-blue@Long gradient", 4, "<gradient:red:blue>Long</gradient>"},
+                {"Short &aone", 20, "Short <green>one"},
+                {"&aA😀", 2, "<green>A</green>"},
+                {"&a", 0, "<green>"}
+        };
+    }
+
+    @Test(dataProvider = "truncateData")
+    public void truncateTest(String input, int maxVisible, String expected) {
+        assertEquals(MiniTranslator.toMini(input, maxVisible), expected);
+    }
+
+    @Test
+    public void truncateOptionsTest() {
+        Set<Option> options = EnumSet.of(Option.COLOR, Option.HEX_COLOR_STANDALONE);
+        // Cut right after it, the color in brackets would be taken for a code
+        assertEquals(MiniTranslator.toMini("&a<#123456>", options, 8), "<green><</green>");
+        assertEquals(MiniTranslator.toMini("&a#123456Text", options, 2), "<green><#123456>Te</#123456></green>");
+        // Standalone colors are closed too, in order with the codes
+        assertEquals(MiniTranslator.toMini("#123456Hello &aworld", options, 5), "<#123456>Hello</#123456>");
+        assertEquals(MiniTranslator.toMini("&aHi #123456Hello world", options, 5), "<green>Hi <#123456>He</#123456></green>");
+        // The # of a hex color code is not the text, so the cut isn't moved back to it
+        Set<Option> standalone = EnumSet.copyOf(MiniTranslator.DEFAULT_OPTIONS);
+        standalone.add(Option.HEX_COLOR_STANDALONE);
+        assertEquals(MiniTranslator.toMini("A&#abcdef😀", standalone, 2), "A<#abcdef></#abcdef>");
+        Set<Option> minified = EnumSet.of(Option.COLOR, Option.FORMAT, Option.RESET, Option.MINIFY);
+        assertEquals(MiniTranslator.toMini("&a&lA&r&a&lBC", minified, 2), "<green><b>AB</green>");
+        String text = "Nothing to cut";
+        assertSame(MiniTranslator.toMini(text, text.length()), text);
+        assertThrows(IllegalArgumentException.class, () -> MiniTranslator.toMini(text, -1));
+    }
+
+    @Test
+    public void customCodesTest() {
+        Translator translator = Translator.builder().options(MiniTranslator.DEFAULT_OPTIONS)
+                .code('z', Translator.CodeBehavior.FORMAT, "rainbow").build();
+        assertEquals(translator.visibleLength("&zRainbow&r!"), 8);
+        assertEquals(translator.translate("&a&zRainbow", 4), "<green><rainbow>Rain</rainbow></green>");
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(21);
+        for (int i = 0; i < 3000; i++) {
+            Set<Option> enabled = RandomText.options(random);
+            String text = RandomText.text(random, 32);
+            List<String> full = MinifierTest.flatten(miniMessage().deserialize(MiniTranslator.toMini(text, enabled)));
+            int length = MiniTranslator.visibleLength(text, enabled);
+            assertEquals(length, visibleChars(full), text + " " + enabled);
+
+            int maxVisible = random.nextInt(length + 2);
+            List<String> truncated = MinifierTest.flatten(miniMessage().deserialize(MiniTranslator.toMini(text, enabled, maxVisible)));
+            String message = text + " " + enabled + " " + maxVisible;
+            int visible = visibleChars(truncated);
+            // Gradients are spread over the text inside, so only the chars are the same for them
+            boolean styled = !enabled.contains(Option.GRADIENT);
+            for (int j = 0; j < truncated.size(); j++) {
+                assertEquals(styled ? truncated.get(j) : codePoint(truncated.get(j)), styled ? full.get(j) : codePoint(full.get(j)), message);
+            }
+            // Nothing that fits is left out, except for half of a surrogate pair
+            if (visible < Math.min(length, maxVisible)) {
+                assertEquals(visibleChars(full.subList(0, truncated.size() + 1)), visible + 2, message);
+                assertEquals(maxVisible, visible + 1, message);
+            }
+        }
+    }
+
+    private static String codePoint(String entry) {
+        return entry.substring(0, entry.indexOf(' '));
+    }
+
+    private static int visibleChars(List<String> flattened) {
+        int count = 0;
+        for (String entry : flattened) {
+            count += Character.charCount(Integer.parseInt(codePoint(entry)));
+        }
+        return count;
+    }
+}